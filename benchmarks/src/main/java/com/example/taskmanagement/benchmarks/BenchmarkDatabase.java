@@ -0,0 +1,82 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.TaskManagementApplication;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.service.TaskService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+
+/**
+ * Boots the application context without a web server against a benchmark database
+ * and seeds it to the requested number of rows.
+ *
+ * <p>Defaults to an in-memory H2 database in MySQL mode. Point it at a real server with
+ * {@code -Dbenchmark.jdbc.url=jdbc:mysql://...}, {@code -Dbenchmark.jdbc.username} and
+ * {@code -Dbenchmark.jdbc.password}; existing rows there are reused.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final int SEED_CHUNK = 5_000;
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkDatabase(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    public static BenchmarkDatabase start(String name, int rows, String... extraProperties) {
+        return start(name, rows, WebApplicationType.NONE, extraProperties);
+    }
+
+    // Boots with the given web application type, e.g. SERVLET with server.port=0 for HTTP load tests
+    public static BenchmarkDatabase start(String name, int rows, WebApplicationType webApplicationType,
+                                          String... extraProperties) {
+        String url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+                        // Accept the MySQL driver settings of application.properties and the perf profile
+                        + ";IGNORE_UNKNOWN_SETTINGS=TRUE");
+        String[] properties = {
+                "spring.datasource.url=" + url,
+                "spring.datasource.username=" + System.getProperty("benchmark.jdbc.username", "sa"),
+                "spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", ""),
+                "spring.jpa.open-in-view=false",
+                "logging.level.root=WARN",
+                "logging.level.com.example.taskmanagement=WARN"
+        };
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementApplication.class)
+                .web(webApplicationType)
+                .properties(properties)
+                .properties(extraProperties)
+                .run();
+        BenchmarkDatabase database = new BenchmarkDatabase(context);
+        database.seed(rows);
+        return database;
+    }
+
+    private void seed(int rows) {
+        long existing = bean(TaskRepository.class).count();
+        TaskService taskService = bean(TaskService.class);
+        for (long seeded = existing; seeded < rows; seeded += SEED_CHUNK) {
+            int count = (int) Math.min(SEED_CHUNK, rows - seeded);
+            List<Task> tasks = TaskFixtures.tasks(count, seeded);
+            taskService.createTasks(tasks);
+        }
+    }
+
+    public int port() {
+        return Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.taskmanagement.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load test of the CRUD endpoints with the default settings and with the
+ * {@code perf} profile (fixed pool, driver statement caching, Hibernate batching).
+ *
+ * <p>Each of {@code loadtest.concurrency} clients repeatedly creates a task, reads it, updates it
+ * and deletes it; every request is one sample. All modes run {@code loadtest.rounds} times in the
+ * same JVM and the last round is reported. Run with:
+ * <pre>
+ * java -Dloadtest.concurrency=100 -Dloadtest.seconds=30 \
+ *      -cp benchmarks/target/benchmarks.jar com.example.taskmanagement.benchmarks.CrudLoadTest
+ * </pre>
+ * The driver settings only take effect against MySQL; add {@code -Dbenchmark.jdbc.url=jdbc:mysql://...}
+ * to measure them.
+ */
+public final class CrudLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String BODY = "{\"title\":\"Load test %d\",\"description\":\"Created by the CRUD load test\","
+            + "\"status\":\"%s\",\"priority\":2}";
+
+    private CrudLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("loadtest.rows", 10_000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 50);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 20));
+        String poolSize = System.getProperty("loadtest.pool-size", "10");
+        int rounds = Integer.getInteger("loadtest.rounds", 2);
+
+        // Modes share the JVM, so only the last round is reported: earlier ones warm up the JIT for all modes
+        List<String> report = new ArrayList<>();
+        for (int round = 1; round <= rounds; round++) {
+            report.clear();
+            for (String mode : System.getProperty("loadtest.modes", "default,perf").split(",")) {
+                try (BenchmarkDatabase database = BenchmarkDatabase.start("crud", rows, WebApplicationType.SERVLET,
+                        "server.port=0",
+                        "spring.profiles.active=" + mode.trim(),
+                        "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        // The perf profile sizes its fixed pool from DB_POOL_SIZE
+                        "DB_POOL_SIZE=" + poolSize,
+                        // Measure the database path, not the id cache
+                        "app.tasks.cache.enabled=false")) {
+                    String baseUrl = "http://localhost:" + database.port() + "/api/tasks";
+                    run(baseUrl, concurrency, warmup);
+                    report.add(run(baseUrl, concurrency, duration).row(mode.trim()));
+                }
+            }
+        }
+        System.out.printf("%nconcurrency=%d rows=%d duration=%ds rounds=%d pool-size=%s%n",
+                concurrency, rows, duration.toSeconds(), rounds, poolSize);
+        System.out.println(LoadResult.header());
+        report.forEach(System.out::println);
+    }
+
+    private static LoadResult run(String baseUrl, int concurrency, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<LatencySamples> samples = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                LatencySamples clientSamples = new LatencySamples();
+                samples.add(clientSamples);
+                clients.submit(() -> {
+                    int iteration = 0;
+                    while (System.nanoTime() < deadline) {
+                        iteration++;
+                        HttpResponse<String> created = send(client, clientSamples, errors,
+                                json(URI.create(baseUrl)).POST(body(iteration, "TODO")).build());
+                        Matcher id = created != null ? ID.matcher(created.body()) : null;
+                        if (id == null || !id.find()) {
+                            continue;
+                        }
+                        URI task = URI.create(baseUrl + "/" + id.group(1));
+                        send(client, clientSamples, errors, HttpRequest.newBuilder(task).GET().build());
+                        send(client, clientSamples, errors, json(task).PUT(body(iteration, "IN_PROGRESS")).build());
+                        send(client, clientSamples, errors, HttpRequest.newBuilder(task).DELETE().build());
+                    }
+                    return null;
+                });
+            }
+        }
+
+        return LoadResult.of(samples, duration, errors.get());
+    }
+
+    // Sends one request and records its latency; null when it failed
+    private static HttpResponse<String> send(HttpClient client, LatencySamples samples, AtomicLong errors,
+                                             HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                errors.incrementAndGet();
+                return null;
+            }
+            return response;
+        } catch (Exception e) {
+            errors.incrementAndGet();
+            return null;
+        } finally {
+            samples.add(System.nanoTime() - start);
+        }
+    }
+
+    private static HttpRequest.Builder json(URI uri) {
+        return HttpRequest.newBuilder(uri).header("Content-Type", "application/json");
+    }
+
+    private static HttpRequest.BodyPublisher body(int iteration, String status) {
+        return HttpRequest.BodyPublishers.ofString(String.format(BODY, iteration, status));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.taskmanagement.benchmarks;
+
+import java.util.Arrays;
+
+/** Latencies in nanoseconds recorded by one load-test client. */
+final class LatencySamples {
+
+    private long[] values = new long[1 << 12];
+    private int count;
+
+    void add(long latency) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count++] = latency;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long[] values() {
+        return values;
+    }
+}
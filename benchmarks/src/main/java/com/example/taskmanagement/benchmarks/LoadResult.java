@@ -0,0 +1,41 @@
+package com.example.taskmanagement.benchmarks;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/** Latencies of every client in one load-test run, sorted for percentiles. */
+record LoadResult(long[] sortedLatencies, Duration duration, long errors) {
+
+    static LoadResult of(List<LatencySamples> samples, Duration duration, long errors) {
+        long[] all = new long[samples.stream().mapToInt(LatencySamples::count).sum()];
+        int offset = 0;
+        for (LatencySamples clientSamples : samples) {
+            System.arraycopy(clientSamples.values(), 0, all, offset, clientSamples.count());
+            offset += clientSamples.count();
+        }
+        Arrays.sort(all);
+        return new LoadResult(all, duration, errors);
+    }
+
+    double throughput() {
+        return sortedLatencies.length / (double) duration.toSeconds();
+    }
+
+    double percentile(double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / 1_000_000.0;
+    }
+
+    String row(String mode) {
+        return String.format("%-9s %10.1f %10.2f %10.2f %10.2f %8d",
+                mode, throughput(), percentile(50), percentile(99), percentile(100), errors);
+    }
+
+    static String header() {
+        return String.format("%-9s %10s %10s %10s %10s %8s", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+    }
+}
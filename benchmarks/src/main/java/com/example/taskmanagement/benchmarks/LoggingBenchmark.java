@@ -0,0 +1,126 @@
+package com.example.taskmanagement.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.taskmanagement.controller.TaskController;
+import com.example.taskmanagement.logging.RateLimitingTurboFilter;
+import com.example.taskmanagement.logging.SqlTraceTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the per-request log lines of a task lookup under the default synchronous
+ * console setup, the prod async appender, and the prod async appender with rate limiting.
+ *
+ * <p>Events are encoded with the application's console pattern and flushed to a temporary file
+ * after every event, like the console appender does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@Threads(4)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss} [%thread] %-5level %logger{36} - %msg%n";
+
+    @Param({"sync", "async", "async-rate-limited"})
+    public String setup;
+
+    private LoggerContext context;
+    private Path logFile;
+    private Logger controllerLogger;
+    private Logger sqlLogger;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+        context.start();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setName("SINK");
+        sink.setEncoder(encoder);
+        sink.setOutputStream(new FileOutputStream(logFile.toFile()));
+        sink.start();
+
+        Appender<ILoggingEvent> root = sink;
+        if (!"sync".equals(setup)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(20);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(sink);
+            async.start();
+            root = async;
+        }
+        if ("async-rate-limited".equals(setup)) {
+            RateLimitingTurboFilter rateLimit = new RateLimitingTurboFilter();
+            rateLimit.setLoggerPrefix("com.example.taskmanagement");
+            rateLimit.setEventsPerSecond(100);
+            rateLimit.start();
+            context.addTurboFilter(rateLimit);
+        }
+        SqlTraceTurboFilter sqlTrace = new SqlTraceTurboFilter();
+        sqlTrace.start();
+        context.addTurboFilter(sqlTrace);
+
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.INFO);
+        rootLogger.addAppender(root);
+
+        controllerLogger = context.getLogger(TaskController.class);
+        sqlLogger = context.getLogger("org.hibernate.SQL");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public void getTaskRequest() {
+        Long id = 42L;
+        controllerLogger.info("Request received to get task with ID: {}", id);
+        // Without the trace header this is only a level check
+        if (sqlLogger.isDebugEnabled()) {
+            sqlLogger.debug("select t1_0.id, t1_0.title from tasks t1_0 where t1_0.id=?");
+        }
+        controllerLogger.info("Successfully retrieved task with ID: {}", id);
+    }
+}
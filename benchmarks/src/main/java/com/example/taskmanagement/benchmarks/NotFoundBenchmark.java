@@ -0,0 +1,101 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.controller.TaskController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of answering {@code 404} for a task that does not exist, as scanners and stale clients
+ * ask for them: the controller call on its own, and {@code GET} and {@code DELETE} over HTTP
+ * through the dispatcher and its error handling. A {@code GET} of an existing task is the
+ * reference, and a {@code GET} of an ID that is not a number shows the {@code 400} path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final long MISSING_ID = 1_000_000_000L;
+
+    private BenchmarkDatabase database;
+    private TaskController controller;
+    private HttpClient client;
+    private HttpRequest getExisting;
+    private HttpRequest getMissing;
+    private HttpRequest deleteMissing;
+    private HttpRequest getMalformed;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start("notfound", ROWS, WebApplicationType.SERVLET, "server.port=0",
+                // Every miss is logged; writing those lines would swamp what is measured
+                "logging.level.com.example.taskmanagement=OFF");
+        controller = database.bean(TaskController.class);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String baseUrl = "http://localhost:" + database.port() + "/api/tasks/";
+        getExisting = HttpRequest.newBuilder(URI.create(baseUrl + ROWS / 2)).GET().build();
+        getMissing = HttpRequest.newBuilder(URI.create(baseUrl + MISSING_ID)).GET().build();
+        deleteMissing = HttpRequest.newBuilder(URI.create(baseUrl + MISSING_ID)).DELETE().build();
+        getMalformed = HttpRequest.newBuilder(URI.create(baseUrl + "wp-login.php")).GET().build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<Object> controllerGetMissing() {
+        return controller.getTaskById(String.valueOf(MISSING_ID), null);
+    }
+
+    @Benchmark
+    public int httpGetExisting() throws IOException, InterruptedException {
+        return send(getExisting, 200);
+    }
+
+    @Benchmark
+    public int httpGetMissing() throws IOException, InterruptedException {
+        return send(getMissing, 404);
+    }
+
+    @Benchmark
+    public int httpDeleteMissing() throws IOException, InterruptedException {
+        return send(deleteMissing, 404);
+    }
+
+    @Benchmark
+    public int httpGetMalformedId() throws IOException, InterruptedException {
+        return send(getMalformed, 400);
+    }
+
+    private int send(HttpRequest request, int expected) throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != expected) {
+            throw new IllegalStateException("Expected " + expected + " but got " + status);
+        }
+        return status;
+    }
+}
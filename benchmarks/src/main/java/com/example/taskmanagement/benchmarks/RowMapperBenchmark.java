@@ -0,0 +1,86 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.repository.TaskRowMapper;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping {@code tasks} rows to {@link Task} objects, isolated from the database
+ * by replaying an in-memory result set laid out as {@link TaskRowMapper#COLUMNS}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMapperBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private SimpleResultSet resultSet;
+    private final TaskRowMapper rowMapper = new TaskRowMapper();
+
+    @Setup
+    public void setUp() {
+        resultSet = new SimpleResultSet();
+        resultSet.setAutoClose(false);
+        resultSet.addColumn("id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("title", Types.VARCHAR, 200, 0);
+        resultSet.addColumn("description", Types.VARCHAR, 1000, 0);
+        resultSet.addColumn("status", Types.VARCHAR, 20, 0);
+        resultSet.addColumn("priority", Types.INTEGER, 10, 0);
+        resultSet.addColumn("deadline", Types.TIMESTAMP, 26, 0);
+        resultSet.addColumn("created_at", Types.TIMESTAMP, 26, 0);
+        resultSet.addColumn("updated_at", Types.TIMESTAMP, 26, 0);
+        resultSet.addColumn("user_id", Types.BIGINT, 19, 0);
+        resultSet.addColumn("assigned_to", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("estimated_hours", Types.DOUBLE, 17, 0);
+        resultSet.addColumn("actual_hours", Types.DOUBLE, 17, 0);
+        resultSet.addColumn("attachment_url", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("attachment_filename", Types.VARCHAR, 255, 0);
+        resultSet.addColumn("version", Types.BIGINT, 19, 0);
+
+        List<Task> tasks = TaskFixtures.tasks(rows, 42);
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            resultSet.addRow((long) i + 1, task.getTitle(), task.getDescription(), task.getStatus().name(),
+                    task.getPriority(), timestamp(task.getDeadline()), timestamp(task.getCreatedAt()),
+                    timestamp(task.getUpdatedAt()), task.getUserId(), task.getAssignedTo(), task.getEstimatedHours(),
+                    null, null, null, 0L);
+        }
+    }
+
+    @Benchmark
+    public void mapRows(Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        int rowNum = 0;
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet, rowNum++));
+        }
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.dto.TaskFields;
+import com.example.taskmanagement.dto.TaskView;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.time.RequestClock;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of serializing task lists as the controller does: the full representation with and without
+ * the computed {@code overdue}/{@code daysUntilDeadline}/{@code daysOverdue} getters, the
+ * {@code view=summary} projection, and Smile and CBOR encodings. Runs with the request clock bound,
+ * as in a request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    @JsonIgnoreProperties({"overdue", "daysUntilDeadline", "daysOverdue"})
+    abstract static class WithoutComputedGetters {
+    }
+
+    @Param({"100", "1000"})
+    public int size;
+
+    private List<Task> tasks;
+    private ObjectWriter fullWriter;
+    private ObjectWriter storedOnlyWriter;
+    private ObjectWriter viewWriter;
+    private ObjectWriter smileWriter;
+    private ObjectWriter smileViewWriter;
+    private ObjectWriter cborWriter;
+    private TaskView summary;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskFixtures.tasks(size, 7);
+        long id = 1;
+        for (Task task : tasks) {
+            task.setId(id++);
+        }
+        // Same configuration Spring Boot applies to the MVC ObjectMapper
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        fullWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, Task.class));
+        ObjectMapper storedOnly = mapper.copy().addMixIn(Task.class, WithoutComputedGetters.class);
+        storedOnlyWriter = storedOnly.writerFor(
+                storedOnly.getTypeFactory().constructCollectionType(List.class, Task.class));
+        viewWriter = mapper.writerFor(TaskView.class);
+
+        ObjectMapper smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        smileWriter = smile.writerFor(smile.getTypeFactory().constructCollectionType(List.class, Task.class));
+        smileViewWriter = smile.writerFor(TaskView.class);
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cborWriter = cbor.writerFor(cbor.getTypeFactory().constructCollectionType(List.class, Task.class));
+
+        summary = new TaskView(tasks, TaskFields.VIEWS.get("summary"));
+        RequestClock.set(LocalDateTime.now());
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestClock.clear();
+    }
+
+    @Benchmark
+    public byte[] fullRepresentation() throws JsonProcessingException {
+        return fullWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] storedFieldsOnly() throws JsonProcessingException {
+        return storedOnlyWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] summaryView() throws JsonProcessingException {
+        return viewWriter.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] fullRepresentationSmile() throws JsonProcessingException {
+        return smileWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] summaryViewSmile() throws JsonProcessingException {
+        return smileViewWriter.writeValueAsBytes(summary);
+    }
+
+    @Benchmark
+    public byte[] fullRepresentationCbor() throws JsonProcessingException {
+        return cborWriter.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.taskmanagement.benchmarks;
+
+import org.h2.engine.Constants;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cold-start time and resident memory of the production build, one fresh JVM per run.
+ *
+ * <p>Launches the thin jar built by {@code mvn -Pcds package} with the prod profile in each mode:
+ * <ul>
+ *   <li>{@code baseline} – eager bean initialization</li>
+ *   <li>{@code lazy} – lazy initialization, as in the prod profile</li>
+ *   <li>{@code cds} – lazy, with a class-data-sharing archive recorded by a training run</li>
+ *   <li>{@code aot-cds} – lazy, CDS and the Spring AOT bean definitions</li>
+ * </ul>
+ * and reports the median wall time until the application logs that it started, the startup time
+ * Spring Boot reports, and the RSS at that point (Linux). Run from the project root with:
+ * <pre>
+ * mvn -Pcds package -DskipTests &amp;&amp; mvn -f benchmarks/pom.xml package
+ * java -Dstartup.runs=5 -cp benchmarks/target/benchmarks.jar com.example.taskmanagement.benchmarks.StartupBenchmark
+ * </pre>
+ * The application uses an in-memory H2 database from the local Maven repository unless
+ * {@code -Dbenchmark.jdbc.url=jdbc:mysql://...} is given.
+ */
+public final class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.example.taskmanagement.TaskManagementApplication";
+    private static final Pattern STARTED = Pattern.compile("Started TaskManagementApplication in ([0-9.]+) seconds");
+    private static final long TIMEOUT_SECONDS = 120;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar", "target/cds/task-management-0.0.1-SNAPSHOT-cds.jar"));
+        if (!Files.exists(jar)) {
+            throw new IllegalStateException(jar + " not found; build it with mvn -Pcds package");
+        }
+        int runs = Integer.getInteger("startup.runs", 5);
+        String url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE");
+        String classpath = jar + File.pathSeparator
+                + System.getProperty("startup.extra-classpath", defaultExtraClasspath(url));
+
+        List<String> common = new ArrayList<>(List.of(
+                "-Dspring.profiles.active=prod",
+                "-Dserver.port=0",
+                "-Dspring.datasource.url=" + url,
+                "-Dspring.datasource.username=" + System.getProperty("benchmark.jdbc.username", "sa"),
+                "-Dspring.datasource.password=" + System.getProperty("benchmark.jdbc.password", "")));
+        if (url.startsWith("jdbc:h2:")) {
+            common.add("-Dspring.datasource.driver-class-name=org.h2.Driver");
+            common.add("-Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+
+        List<String> report = new ArrayList<>();
+        for (String entry : System.getProperty("startup.modes", "baseline,lazy,cds,aot-cds").split(",")) {
+            String mode = entry.trim();
+            List<String> options = new ArrayList<>(common);
+            switch (mode) {
+                case "baseline" -> options.add("-Dspring.main.lazy-initialization=false");
+                case "lazy" -> {
+                }
+                case "cds", "aot-cds" -> {
+                    if (mode.equals("aot-cds")) {
+                        options.add("-Dspring.aot.enabled=true");
+                    }
+                    Path archive = jar.resolveSibling(mode + ".jsa");
+                    train(classpath, options, archive);
+                    options.add("-XX:SharedArchiveFile=" + archive);
+                }
+                default -> throw new IllegalArgumentException("Unknown mode " + mode);
+            }
+            long[] wallMillis = new long[runs];
+            long[] reportedMillis = new long[runs];
+            long[] rssKb = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] sample = start(classpath, options);
+                wallMillis[run] = sample[0];
+                reportedMillis[run] = sample[1];
+                rssKb[run] = sample[2];
+            }
+            report.add(String.format("%-9s %12d %12d %10.1f",
+                    mode, median(wallMillis), median(reportedMillis), median(rssKb) / 1024.0));
+        }
+        System.out.printf("%nruns=%d jar=%s%n", runs, jar);
+        System.out.printf("%-9s %12s %12s %10s%n", "mode", "wall ms", "started ms", "rss MB");
+        report.forEach(System.out::println);
+    }
+
+    // Records the classes loaded up to the refreshed context into a dynamic CDS archive
+    private static void train(String classpath, List<String> options, Path archive) throws Exception {
+        List<String> command = command(classpath, options,
+                "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh", "-Xlog:cds=off");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        if (!process.waitFor(TIMEOUT_SECONDS, TimeUnit.SECONDS) || !Files.exists(archive)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Training run did not produce " + archive);
+        }
+    }
+
+    // Wall time to the started line, Spring Boot's reported startup time, and RSS in kB then
+    private static long[] start(String classpath, List<String> options) throws Exception {
+        long begin = System.nanoTime();
+        Process process = new ProcessBuilder(command(classpath, options)).redirectErrorStream(true).start();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            String last = null;
+            while ((line = output.readLine()) != null) {
+                last = line;
+                Matcher started = STARTED.matcher(line);
+                if (started.find()) {
+                    long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+                    long reportedMillis = Math.round(Double.parseDouble(started.group(1)) * 1000);
+                    return new long[] {wallMillis, reportedMillis, rssKb(process.pid())};
+                }
+                if (TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - begin) > TIMEOUT_SECONDS) {
+                    break;
+                }
+            }
+            throw new IllegalStateException("Application did not start; last output: " + last);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static List<String> command(String classpath, List<String> options, String... extra) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options);
+        command.addAll(List.of(extra));
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS));
+        return command;
+    }
+
+    private static long rssKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Not Linux, or the process already exited
+        }
+        return -1;
+    }
+
+    private static String defaultExtraClasspath(String url) {
+        if (!url.startsWith("jdbc:h2:")) {
+            return "";
+        }
+        return Path.of(System.getProperty("user.home"), ".m2", "repository", "com", "h2database", "h2",
+                Constants.VERSION, "h2-" + Constants.VERSION + ".jar").toString();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic, realistic-looking tasks for seeding benchmark databases.
+ */
+public final class TaskFixtures {
+
+    private static final String[] WORDS = {
+            "deploy", "backend", "frontend", "review", "invoice", "customer", "report", "migration",
+            "database", "release", "design", "meeting", "budget", "onboarding", "security", "audit",
+            "refactor", "dashboard", "billing", "support", "roadmap", "testing", "analytics", "search"
+    };
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private TaskFixtures() {
+    }
+
+    public static List<Task> tasks(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(random, now));
+        }
+        return tasks;
+    }
+
+    public static Task task(SplittableRandom random, LocalDateTime now) {
+        Task task = new Task();
+        task.setTitle(sentence(random, 3 + random.nextInt(5)));
+        task.setDescription(sentence(random, 20 + random.nextInt(60)));
+        task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+        task.setPriority(1 + random.nextInt(3));
+        task.setUserId(1L + random.nextInt(50));
+        task.setAssignedTo("user" + random.nextInt(200));
+        task.setEstimatedHours((double) random.nextInt(40));
+        // Deadlines spread from a month ago to two months ahead; one in five has none
+        if (random.nextInt(5) != 0) {
+            task.setDeadline(now.plusHours(random.nextInt(24 * 90) - 24 * 30L));
+        }
+        task.setCreatedAt(now.minusMinutes(random.nextInt(60 * 24 * 365)));
+        task.setUpdatedAt(task.getCreatedAt());
+        return task;
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskPage;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading the whole table through {@code findAll} versus keyset and offset pages and the
+ * streaming cursor, through the service layer against a seeded database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private TaskService taskService;
+    private String middleCursor;
+    private TaskSearchCriteria middleOffset;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start("queries" + rows, rows);
+        taskService = database.bean(TaskService.class);
+        middleCursor = TaskCursor.ofId(rows / 2).encode();
+        middleOffset = new TaskSearchCriteria();
+        middleOffset.setLimit(PAGE_SIZE);
+        middleOffset.setOffset(rows / 2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Task> findAll() {
+        return taskService.getAllTasks();
+    }
+
+    @Benchmark
+    public TaskPage keysetFirstPage() {
+        return taskService.getTasksPage(null, PAGE_SIZE, "id");
+    }
+
+    @Benchmark
+    public TaskPage keysetMiddlePage() {
+        return taskService.getTasksPage(middleCursor, PAGE_SIZE, "id");
+    }
+
+    @Benchmark
+    public TaskPage offsetMiddlePage() {
+        return taskService.searchTasks(middleOffset);
+    }
+
+    @Benchmark
+    public void streamAll(Blackhole blackhole) {
+        taskService.streamAllTasks(blackhole::consume);
+    }
+}
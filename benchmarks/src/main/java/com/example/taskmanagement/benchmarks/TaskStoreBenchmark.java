@@ -0,0 +1,102 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import com.example.taskmanagement.repository.TaskStore;
+import com.example.taskmanagement.tenant.TenantContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The JPA and JDBC {@link TaskStore}s on the same workload: lookups by id, keyset pages, a status
+ * list and an insert-update-delete cycle, each in its own transaction as the service runs them.
+ * The task cache sits above the store, so it does not hide the difference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskStoreBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"jpa", "jdbc"})
+    public String store;
+
+    @Param({"10000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private TaskStore taskStore;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+    private long userId;
+    private final SplittableRandom random = new SplittableRandom(7);
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start("store" + store + rows, rows, "app.tasks.store=" + store);
+        taskStore = database.bean(TaskStore.class);
+        PlatformTransactionManager transactionManager = database.bean(PlatformTransactionManager.class);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        // Seeded tasks belong to the default tenant
+        userId = TenantContext.currentUserId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Task findById() {
+        long id = 1 + random.nextInt(rows);
+        return readTransaction.execute(status -> taskStore.findById(id, userId).orElse(null));
+    }
+
+    @Benchmark
+    public List<Task> keysetPage() {
+        long afterId = random.nextInt(rows - PAGE_SIZE);
+        return readTransaction.execute(status -> taskStore.findPageById(userId, afterId, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Task> findByStatus() {
+        return readTransaction.execute(status -> taskStore.findByUserAndStatus(userId, TaskStatus.CANCELLED));
+    }
+
+    @Benchmark
+    public Task insertUpdateDelete() {
+        Task task = TaskFixtures.task(random, LocalDateTime.now());
+        task.setUserId(userId);
+        return writeTransaction.execute(status -> {
+            Task saved = taskStore.insert(task);
+            saved.setStatus(TaskStatus.IN_PROGRESS);
+            saved.setActualHours(1.5);
+            Task updated = taskStore.update(saved);
+            taskStore.delete(updated);
+            return updated;
+        });
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.dto.TaskPage;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text search through the legacy {@code LIKE %x%} title scan versus the {@code q=} path.
+ *
+ * <p>The FULLTEXT index only exists on MySQL, so compare the two there:
+ * {@code -p rows=1000000 -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/task_bench?rewriteBatchedStatements=true}.
+ * On the default H2 database both paths are LIKE scans and serve as a baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextSearchBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"migration", "data"})
+    public String term;
+
+    private BenchmarkDatabase database;
+    private TaskService taskService;
+    private TaskSearchCriteria fullText;
+    private TaskSearchCriteria titleLike;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start("text" + rows, rows);
+        taskService = database.bean(TaskService.class);
+
+        fullText = new TaskSearchCriteria();
+        fullText.setQuery(term);
+        fullText.setSort("relevance");
+        fullText.setLimit(50);
+        fullText.setFields(Set.of("id", "title"));
+
+        titleLike = new TaskSearchCriteria();
+        titleLike.setTitle(term);
+        titleLike.setLimit(50);
+        titleLike.setFields(Set.of("id", "title"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Task> legacyTitleScan() {
+        return taskService.searchTasksByTitle(term);
+    }
+
+    @Benchmark
+    public TaskPage titleLikePage() {
+        return taskService.searchTasks(titleLike);
+    }
+
+    @Benchmark
+    public TaskPage fullTextPage() {
+        return taskService.searchTasks(fullText);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.dto.TaskCursor;
+import org.springframework.boot.WebApplicationType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test comparing platform-thread and virtual-thread request execution.
+ *
+ * <p>For each mode it boots the application on a random port against the benchmark database,
+ * drives {@code loadtest.concurrency} clients issuing id lookups and keyset pages, and prints
+ * throughput and latency percentiles. Run with:
+ * <pre>
+ * java -Dloadtest.concurrency=800 -Dloadtest.seconds=30 \
+ *      -cp benchmarks/target/benchmarks.jar com.example.taskmanagement.benchmarks.ThreadingLoadTest
+ * </pre>
+ * Add {@code -Dbenchmark.jdbc.url=jdbc:mysql://...} to measure against MySQL, where blocking
+ * JDBC calls rather than H2's in-process execution dominate.
+ */
+public final class ThreadingLoadTest {
+
+    private ThreadingLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("loadtest.rows", 10_000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 400);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 20));
+        String tomcatThreads = System.getProperty("loadtest.tomcat-threads", "200");
+        String poolSize = System.getProperty("loadtest.pool-size", "10");
+
+        List<String> report = new ArrayList<>();
+        for (String mode : System.getProperty("loadtest.modes", "platform,virtual").split(",")) {
+            boolean virtual = "virtual".equals(mode.trim());
+            try (BenchmarkDatabase database = BenchmarkDatabase.start("loadtest", rows, WebApplicationType.SERVLET,
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=" + virtual,
+                    "app.datasource.guard.enabled=" + virtual,
+                    "server.tomcat.threads.max=" + tomcatThreads,
+                    "spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                    // Measure the database path, not the id cache
+                    "app.tasks.cache.enabled=false")) {
+                String baseUrl = "http://localhost:" + database.port() + "/api/tasks";
+                run(baseUrl, rows, concurrency, warmup);
+                report.add(run(baseUrl, rows, concurrency, duration).row(mode.trim()));
+            }
+        }
+        System.out.printf("%nconcurrency=%d rows=%d duration=%ds tomcat-threads=%s pool-size=%s%n",
+                concurrency, rows, duration.toSeconds(), tomcatThreads, poolSize);
+        System.out.println(LoadResult.header());
+        report.forEach(System.out::println);
+    }
+
+    private static LoadResult run(String baseUrl, int rows, int concurrency, Duration duration)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<LatencySamples> samples = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                LatencySamples clientSamples = new LatencySamples();
+                samples.add(clientSamples);
+                clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        long id = 1 + random.nextInt(rows);
+                        URI uri = random.nextInt(5) == 0
+                                ? URI.create(baseUrl + "?limit=50&cursor=" + TaskCursor.ofId(id).encode())
+                                : URI.create(baseUrl + "/" + id);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        clientSamples.add(System.nanoTime() - start);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        return LoadResult.of(samples, duration, errors.get());
+    }
+}
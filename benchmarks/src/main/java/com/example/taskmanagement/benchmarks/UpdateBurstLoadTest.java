@@ -0,0 +1,140 @@
+package com.example.taskmanagement.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load test of bursts of {@code PUT /api/tasks/{id}} against the same tasks, as
+ * board drag-and-drop produces, written through ({@code write-through}) or coalesced by the
+ * journaled write-behind queue ({@code write-behind}).
+ *
+ * <p>Each of {@code loadtest.concurrency} clients creates {@code loadtest.tasks-per-client} tasks
+ * and then keeps moving them between statuses; every PUT is one sample. All modes run
+ * {@code loadtest.rounds} times in the same JVM and the last round is reported. Run with:
+ * <pre>
+ * java -Dloadtest.concurrency=50 -Dloadtest.seconds=20 \
+ *      -cp benchmarks/target/benchmarks.jar com.example.taskmanagement.benchmarks.UpdateBurstLoadTest
+ * </pre>
+ */
+public final class UpdateBurstLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "COMPLETED"};
+    private static final String BODY = "{\"title\":\"Burst %d\","
+            + "\"description\":\"Moved by the update burst load test\",\"status\":\"%s\",\"priority\":2}";
+
+    private UpdateBurstLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("loadtest.rows", 10_000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 50);
+        int tasksPerClient = Integer.getInteger("loadtest.tasks-per-client", 5);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 5));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 20));
+        int rounds = Integer.getInteger("loadtest.rounds", 2);
+        Path journal = Files.createTempFile("task-write-behind", ".journal");
+
+        List<String> report = new ArrayList<>();
+        for (int round = 1; round <= rounds; round++) {
+            report.clear();
+            for (String entry : System.getProperty("loadtest.modes", "write-through,write-behind").split(",")) {
+                String mode = entry.trim();
+                try (BenchmarkDatabase database = BenchmarkDatabase.start("burst", rows, WebApplicationType.SERVLET,
+                        "server.port=0",
+                        "app.tasks.write-behind.enabled=" + mode.equals("write-behind"),
+                        "app.tasks.write-behind.journal-path=" + journal)) {
+                    String baseUrl = "http://localhost:" + database.port() + "/api/tasks";
+                    HttpClient client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_1_1)
+                            .executor(Executors.newVirtualThreadPerTaskExecutor())
+                            .build();
+                    List<List<URI>> tasks = createTasks(client, baseUrl, concurrency, tasksPerClient);
+                    run(client, tasks, warmup);
+                    report.add(run(client, tasks, duration).row(mode));
+                }
+            }
+        }
+        Files.deleteIfExists(journal);
+        System.out.printf("%nconcurrency=%d tasks-per-client=%d duration=%ds rounds=%d%n",
+                concurrency, tasksPerClient, duration.toSeconds(), rounds);
+        System.out.println(LoadResult.header());
+        report.forEach(System.out::println);
+    }
+
+    private static List<List<URI>> createTasks(HttpClient client, String baseUrl, int concurrency, int perClient)
+            throws Exception {
+        List<List<URI>> tasks = new ArrayList<>();
+        for (int c = 0; c < concurrency; c++) {
+            List<URI> own = new ArrayList<>();
+            for (int t = 0; t < perClient; t++) {
+                HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(baseUrl))
+                        .header("Content-Type", "application/json")
+                        .POST(body(t, "TODO")).build(), HttpResponse.BodyHandlers.ofString());
+                Matcher id = ID.matcher(created.body());
+                if (!id.find()) {
+                    throw new IllegalStateException("Could not create task: " + created.body());
+                }
+                own.add(URI.create(baseUrl + "/" + id.group(1)));
+            }
+            tasks.add(own);
+        }
+        return tasks;
+    }
+
+    private static LoadResult run(HttpClient client, List<List<URI>> tasks, Duration duration)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<LatencySamples> samples = new ArrayList<>();
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (List<URI> own : tasks) {
+                LatencySamples clientSamples = new LatencySamples();
+                samples.add(clientSamples);
+                clients.submit(() -> {
+                    int iteration = 0;
+                    while (System.nanoTime() < deadline) {
+                        iteration++;
+                        URI task = own.get(iteration % own.size());
+                        HttpRequest request = HttpRequest.newBuilder(task)
+                                .header("Content-Type", "application/json")
+                                .PUT(body(iteration, STATUSES[iteration % STATUSES.length]))
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        } finally {
+                            clientSamples.add(System.nanoTime() - start);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        return LoadResult.of(samples, duration, errors.get());
+    }
+
+    private static HttpRequest.BodyPublisher body(int iteration, String status) {
+        return HttpRequest.BodyPublishers.ofString(String.format(BODY, iteration, status));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.service.impl.TaskValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the task validation rules on the accepted and the rejected path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationBenchmark {
+
+    private final TaskValidator validator = new TaskValidator();
+    private Task validTask;
+    private Task invalidTask;
+
+    @Setup
+    public void setUp() {
+        validTask = TaskFixtures.task(new SplittableRandom(1), LocalDateTime.now());
+        invalidTask = TaskFixtures.task(new SplittableRandom(2), LocalDateTime.now());
+        invalidTask.setPriority(7);
+    }
+
+    @Benchmark
+    public Task validTask() {
+        validator.validate(validTask);
+        return validTask;
+    }
+
+    @Benchmark
+    public Object invalidTask() {
+        try {
+            validator.validate(invalidTask);
+            return invalidTask;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
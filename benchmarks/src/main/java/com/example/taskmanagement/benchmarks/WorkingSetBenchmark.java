@@ -0,0 +1,100 @@
+package com.example.taskmanagement.benchmarks;
+
+import com.example.taskmanagement.dto.TaskPage;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.tenant.TenantContext;
+import com.example.taskmanagement.workingset.TaskWorkingSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of a tenant's active tasks answered by the database ({@code database}) versus the
+ * in-memory working set ({@code working-set}): a status list, a filtered search ordered by
+ * deadline and the overdue filter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkingSetBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"database", "working-set"})
+    public String mode;
+
+    private BenchmarkDatabase database;
+    private TaskService taskService;
+    private TaskSearchCriteria highPriorityByDeadline;
+    private TaskSearchCriteria overdue;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        database = BenchmarkDatabase.start("working-set" + rows, rows,
+                "app.tasks.working-set.enabled=" + mode.equals("working-set"));
+        taskService = database.bean(TaskService.class);
+        if (mode.equals("working-set")) {
+            awaitLoaded(database.bean(TaskWorkingSet.class));
+        }
+
+        highPriorityByDeadline = new TaskSearchCriteria();
+        highPriorityByDeadline.setStatuses(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+        highPriorityByDeadline.setPriorities(List.of(1));
+        highPriorityByDeadline.setSort("deadline");
+        highPriorityByDeadline.setLimit(50);
+        highPriorityByDeadline.setFields(Set.of("id", "title", "deadline"));
+
+        overdue = new TaskSearchCriteria();
+        overdue.setStatuses(List.of(TaskStatus.TODO));
+        overdue.setOverdue(true);
+        overdue.setLimit(50);
+        overdue.setFields(Set.of("id", "title", "deadline"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Task> inProgressList() {
+        return taskService.getTasksByStatus("IN_PROGRESS");
+    }
+
+    @Benchmark
+    public TaskPage highPriorityByDeadline() {
+        return taskService.searchTasks(highPriorityByDeadline);
+    }
+
+    @Benchmark
+    public TaskPage overduePage() {
+        return taskService.searchTasks(overdue);
+    }
+
+    // The working set loads in the background once the application is ready
+    private static void awaitLoaded(TaskWorkingSet workingSet) throws InterruptedException {
+        while (workingSet.findByStatus(TenantContext.currentUserId(), TaskStatus.TODO).isEmpty()) {
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.taskmanagement.admission;
+
+import com.example.taskmanagement.tenant.TenantFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for the API, applied before any other application filter so rejected
+ * requests cost almost nothing.
+ *
+ * <p>Each client address draws from its own token bucket; an empty bucket answers {@code 429}
+ * with {@code Retry-After} set to when the next token arrives. The tenant header plays no part:
+ * it is not authenticated, so a client could spread its requests over as many buckets as it
+ * cared to name. Behind a proxy the address is the forwarded one, as far as
+ * {@code server.forward-headers-strategy} trusts it. Admitted requests then take a slot from the
+ * read limit (GET and HEAD) or the write limit (everything else); when the class is full the
+ * request answers {@code 503} with {@code Retry-After}. Both limits follow {@link DatabaseLatency},
+ * so a slow database sheds load at the edge instead of piling up threads waiting on it. The event
+ * stream holds its connection for minutes and is rate limited only.
+ */
+@Component
+@Order(TenantFilter.ORDER - 2)
+public class AdmissionFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionFilter.class);
+    private static final String EVENTS_PATH = "/api/tasks/events";
+
+    private enum EndpointClass {
+        READ,
+        WRITE
+    }
+
+    private final ObjectMapper objectMapper;
+    private final DatabaseLatency databaseLatency;
+    private final boolean enabled;
+    private final double ratePerSecond;
+    private final int burst;
+    private final long overloadRetryAfterSeconds;
+    private final long adjustIntervalMillis;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<EndpointClass, ConcurrencyLimit> limits;
+    private final LongAdder rateLimited = new LongAdder();
+    private final Map<EndpointClass, LongAdder> shed = Map.of(
+            EndpointClass.READ, new LongAdder(), EndpointClass.WRITE, new LongAdder());
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("admission-limits").daemon().unstarted(runnable));
+
+    public AdmissionFilter(ObjectMapper objectMapper, DatabaseLatency databaseLatency,
+                           @Value("${app.admission.enabled:false}") boolean enabled,
+                           @Value("${app.admission.rate.per-second:50}") double ratePerSecond,
+                           @Value("${app.admission.rate.burst:100}") int burst,
+                           @Value("${app.admission.rate.max-clients:10000}") long maxClients,
+                           @Value("${app.admission.reads.initial-limit:100}") int readsInitialLimit,
+                           @Value("${app.admission.reads.min-limit:10}") int readsMinLimit,
+                           @Value("${app.admission.reads.max-limit:500}") int readsMaxLimit,
+                           @Value("${app.admission.writes.initial-limit:50}") int writesInitialLimit,
+                           @Value("${app.admission.writes.min-limit:5}") int writesMinLimit,
+                           @Value("${app.admission.writes.max-limit:200}") int writesMaxLimit,
+                           @Value("${app.admission.latency-tolerance:1.5}") double latencyTolerance,
+                           @Value("${app.admission.adjust-interval-ms:500}") long adjustIntervalMillis,
+                           @Value("${app.admission.overload-retry-after:1s}") Duration overloadRetryAfter) {
+        this.objectMapper = objectMapper;
+        this.databaseLatency = databaseLatency;
+        this.enabled = enabled;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.overloadRetryAfterSeconds = Math.max(1, overloadRetryAfter.toSeconds());
+        this.adjustIntervalMillis = adjustIntervalMillis;
+        // Idle clients are dropped once their bucket would have refilled anyway
+        Duration refill = Duration.ofNanos((long) (burst / ratePerSecond * 1_000_000_000L));
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(refill.plusSeconds(1))
+                .build();
+        this.limits = Map.of(
+                EndpointClass.READ,
+                new ConcurrencyLimit(readsInitialLimit, readsMinLimit, readsMaxLimit, latencyTolerance),
+                EndpointClass.WRITE,
+                new ConcurrencyLimit(writesInitialLimit, writesMinLimit, writesMaxLimit, latencyTolerance));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            logger.info("Admission control enabled: {} requests per second per client with bursts of {}",
+                    ratePerSecond, burst);
+            executor.scheduleWithFixedDelay(this::adjust, adjustIntervalMillis, adjustIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = buckets.get(request.getRemoteAddr(), key -> new TokenBucket(ratePerSecond, burst))
+                .tryTake(System.nanoTime());
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfter, "Too many requests",
+                    "Rate limit of " + ratePerSecond + " requests per second exceeded");
+            return;
+        }
+        if (EVENTS_PATH.equals(request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        EndpointClass endpointClass = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod())
+                ? EndpointClass.READ : EndpointClass.WRITE;
+        ConcurrencyLimit limit = limits.get(endpointClass);
+        if (!limit.tryAcquire()) {
+            shed.get(endpointClass).increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, overloadRetryAfterSeconds, "Service overloaded",
+                    "Too many " + endpointClass.name().toLowerCase() + " requests in progress");
+            return;
+        }
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            async = request.isAsyncStarted();
+        } finally {
+            if (async) {
+                // A streamed body is still being written; the slot is held until it completes
+                request.getAsyncContext().addListener(new ReleasingListener(limit));
+            } else {
+                limit.release();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("tasks.admission.rejected", rateLimited, LongAdder::sum)
+                .description("API requests rejected by admission control")
+                .tag("reason", "rate_limited")
+                .tag("class", "any")
+                .register(registry);
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String tag = endpointClass.name().toLowerCase();
+            ConcurrencyLimit limit = limits.get(endpointClass);
+            FunctionCounter.builder("tasks.admission.rejected", shed.get(endpointClass), LongAdder::sum)
+                    .description("API requests rejected by admission control")
+                    .tag("reason", "overloaded")
+                    .tag("class", tag)
+                    .register(registry);
+            Gauge.builder("tasks.admission.limit", limit, ConcurrencyLimit::getLimit)
+                    .description("Requests of the class allowed in flight at once")
+                    .tag("class", tag)
+                    .register(registry);
+            Gauge.builder("tasks.admission.in-flight", limit, ConcurrencyLimit::getInFlight)
+                    .description("Requests of the class in flight")
+                    .tag("class", tag)
+                    .register(registry);
+        }
+        Gauge.builder("tasks.admission.db-latency", databaseLatency,
+                        latency -> latency.last().recentNanos() / 1_000_000)
+                .description("Database call latency in milliseconds: the last window's average, or its baseline")
+                .tag("window", "recent")
+                .register(registry);
+        Gauge.builder("tasks.admission.db-latency", databaseLatency,
+                        latency -> latency.last().baselineNanos() / 1_000_000)
+                .description("Database call latency in milliseconds: the last window's average, or its baseline")
+                .tag("window", "baseline")
+                .register(registry);
+    }
+
+    private void adjust() {
+        try {
+            DatabaseLatency.Window window = databaseLatency.roll();
+            if (window != null) {
+                limits.values().forEach(limit -> limit.adjust(window));
+            }
+        } catch (Exception e) {
+            logger.error("Error adjusting admission limits: {}", e.getMessage());
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String error,
+                        String message) throws IOException {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("error", error);
+        body.put("message", message);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    // Releases the slot once, whichever way the asynchronous request ends
+    private static final class ReleasingListener implements AsyncListener {
+
+        private final ConcurrencyLimit limit;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingListener(ConcurrencyLimit limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                limit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.taskmanagement.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps the requests of one endpoint class in flight at once. The cap adapts to database latency
+ * once per window: it shrinks in proportion as recent latency rises past {@code tolerance} times
+ * the baseline, down to half per window, and while latency holds it grows by about its square
+ * root. Only a cap that is at least half used moves, and changes are smoothed so a single slow
+ * window cannot halve it.
+ */
+final class ConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Most requests in flight since the last adjustment
+    private final AtomicInteger peak = new AtomicInteger();
+    // Written only by the adjusting thread
+    private double estimate;
+    private volatile int limit;
+
+    ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+    }
+
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                peak.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    void adjust(DatabaseLatency.Window window) {
+        // Until half the cap is in use this class is not what loads the database, so it keeps its cap
+        if (peak.getAndSet(inFlight.get()) < estimate / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT,
+                Math.min(1.0, tolerance * window.baselineNanos() / window.recentNanos()));
+        double target = estimate * gradient + (gradient == 1.0 ? Math.sqrt(estimate) : 0);
+        estimate = Math.max(minLimit, Math.min(maxLimit, estimate + (target - estimate) * SMOOTHING));
+        limit = (int) estimate;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.taskmanagement.admission;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Average duration of database calls, as timed around every {@code TaskJdbcDao} query and
+ * {@code TaskStore} call, including the wait for a pooled connection; streams, batch writes and
+ * calls nested inside another timed call are left out. Each {@link #roll()} closes a window and
+ * compares its average against a baseline that follows improvements quickly and degradations
+ * slowly, so a sustained slowdown is not mistaken for the new normal.
+ */
+@Component
+public class DatabaseLatency {
+
+    private static final double FALLING_WEIGHT = 0.1;
+    private static final double RISING_WEIGHT = 0.01;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    // Guarded by this
+    private double baselineNanos;
+    private volatile Window last = new Window(0, 0);
+
+    /** Latency of the last window and the baseline it was compared with, in nanoseconds. */
+    public record Window(double recentNanos, double baselineNanos) {
+    }
+
+    public void record(long nanos) {
+        calls.increment();
+        totalNanos.add(nanos);
+    }
+
+    // Closes the current window; null when no call completed in it
+    public synchronized Window roll() {
+        long count = calls.sumThenReset();
+        long total = totalNanos.sumThenReset();
+        if (count == 0) {
+            return null;
+        }
+        double recent = (double) total / count;
+        if (baselineNanos == 0) {
+            baselineNanos = recent;
+        } else {
+            double weight = recent < baselineNanos ? FALLING_WEIGHT : RISING_WEIGHT;
+            baselineNanos += (recent - baselineNanos) * weight;
+        }
+        last = new Window(recent, baselineNanos);
+        return last;
+    }
+
+    public Window last() {
+        return last;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.taskmanagement.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket holding up to {@code burst} tokens and refilled at {@code ratePerSecond}.
+ * Rather than counting tokens it keeps the time at which the bucket would be full again (the
+ * generic cell rate algorithm), so taking a token is one compare-and-set without a lock.
+ */
+final class TokenBucket {
+
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(double ratePerSecond, int burst) {
+        this.refillNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = refillNanos * (burst - 1L);
+    }
+
+    // Takes a token; returns 0 when one was available, otherwise the nanoseconds until one will be
+    long tryTake(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long from = Math.max(current, now);
+            long wait = from - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, from + refillNanos)) {
+                return 0;
+            }
+        }
+    }
+}
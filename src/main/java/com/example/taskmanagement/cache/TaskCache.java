@@ -0,0 +1,164 @@
+package com.example.taskmanagement.cache;
+
+import com.example.taskmanagement.model.Task;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded read-through cache of tasks by id, kept per tenant so one tenant's working set cannot
+ * evict another's. Each tenant holds up to {@code max-size} tasks, evicted by size and
+ * time-to-live, and at most {@code max-tenants} tenants are cached at once.
+ * Cached instances are shared between requests and must be treated as read-only.
+ */
+@Component
+public class TaskCache implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCache.class);
+
+    private final boolean enabled;
+    private final long maxSize;
+    private final Duration ttl;
+    // Shared by every tenant's cache so hits and misses are reported for the cache as a whole
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Long, Cache<Long, Task>> tenants;
+
+    public TaskCache(@Value("${app.tasks.cache.enabled:true}") boolean enabled,
+                     @Value("${app.tasks.cache.max-size:10000}") long maxSize,
+                     @Value("${app.tasks.cache.max-tenants:100}") long maxTenants,
+                     @Value("${app.tasks.cache.ttl:30s}") Duration ttl) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.tenants = Caffeine.newBuilder()
+                .maximumSize(maxTenants)
+                .expireAfterAccess(ttl)
+                .build();
+        logger.info("Task cache {} with max size {} per tenant, {} tenants and ttl {}",
+                enabled ? "enabled" : "disabled", maxSize, maxTenants, ttl);
+    }
+
+    // Returns the tenant's cached task, loading it on a miss; a null from the loader is not cached
+    public Task get(long userId, Long id, Function<Long, Task> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        return tenants.get(userId, key -> Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats(() -> statsCounter)
+                .<Long, Task>build()).get(id, loader);
+    }
+
+    // Returns the tenant's cached task without loading it; null on a miss or when disabled
+    public Task getIfPresent(long userId, Long id) {
+        if (!enabled) {
+            return null;
+        }
+        Cache<Long, Task> cache = tenants.getIfPresent(userId);
+        return cache != null ? cache.getIfPresent(id) : null;
+    }
+
+    // Evicts now and again once the surrounding transaction completes, so a concurrent
+    // reader cannot re-cache the pre-commit row in between
+    public void evict(long userId, Long id) {
+        invalidate(userId, List.of(id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(userId, List.of(id));
+                }
+            });
+        }
+    }
+
+    public void evictAll(long userId, Collection<Long> ids) {
+        invalidate(userId, ids);
+    }
+
+    // Publishes cache.gets/cache.evictions/cache.size under cache=tasks, summed over tenants
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CacheMeterBinder<>(this, "tasks", Tags.empty()) {
+            @Override
+            protected Long size() {
+                return estimatedSize();
+            }
+
+            @Override
+            protected long hitCount() {
+                return statsCounter.snapshot().hitCount();
+            }
+
+            @Override
+            protected Long missCount() {
+                return statsCounter.snapshot().missCount();
+            }
+
+            @Override
+            protected Long evictionCount() {
+                return statsCounter.snapshot().evictionCount();
+            }
+
+            @Override
+            protected long putCount() {
+                return statsCounter.snapshot().loadCount();
+            }
+
+            @Override
+            protected void bindImplementationSpecificMetrics(@NonNull MeterRegistry registry) {
+                Gauge.builder("cache.tenants", tenants, Cache::estimatedSize)
+                        .description("Tenants with a task cache")
+                        .tag("cache", "tasks")
+                        .register(registry);
+            }
+        }.bindTo(registry);
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = statsCounter.snapshot();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", estimatedSize());
+        result.put("tenants", tenants.estimatedSize());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        result.put("loadFailures", stats.loadFailureCount());
+        return result;
+    }
+
+    private void invalidate(long userId, Collection<Long> ids) {
+        Cache<Long, Task> cache = tenants.getIfPresent(userId);
+        if (cache != null) {
+            cache.invalidateAll(ids);
+        }
+    }
+
+    private long estimatedSize() {
+        return tenants.asMap().values().stream().mapToLong(Cache::estimatedSize).sum();
+    }
+}
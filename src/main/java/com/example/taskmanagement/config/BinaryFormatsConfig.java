@@ -0,0 +1,30 @@
+package com.example.taskmanagement.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * Serves API responses as Smile ({@code application/x-jackson-smile}) or CBOR
+ * ({@code application/cbor}) when the client asks for them in {@code Accept}. Both use the
+ * application's Jackson settings, so dates and views read the same as in JSON, which stays the
+ * default for any other {@code Accept}.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    // Each parameter is a fresh copy of Boot's prototype builder with the application's customizations
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
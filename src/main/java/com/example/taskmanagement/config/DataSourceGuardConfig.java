@@ -0,0 +1,60 @@
+package com.example.taskmanagement.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Wraps the application DataSource in a {@link GuardedDataSource} when
+ * {@code app.datasource.guard.enabled} is set, which it is by default in virtual-thread mode.
+ * With read replicas the guard is placed under the lazy connection proxy instead, where
+ * connections are actually taken.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.guard.enabled", havingValue = "true")
+public class DataSourceGuardConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSourceGuardConfig.class);
+
+    @Bean
+    public static BeanPostProcessor dataSourceGuardPostProcessor(Environment environment) {
+        int maxWaiting = environment.getProperty("app.datasource.guard.max-waiting", Integer.class, 200);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // A DataSource that already guards its pool internally, like the replica router, is left alone
+                if (bean instanceof DataSource dataSource && GuardedDataSource.find(dataSource) == null) {
+                    logger.info("Guarding DataSource '{}' with at most {} waiting threads", beanName, maxWaiting);
+                    return new GuardedDataSource(dataSource, maxWaiting);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceGuardMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(GuardedDataSource::find)
+                .filter(Objects::nonNull)
+                .forEach(guard -> {
+                    Gauge.builder("tasks.datasource.guard.waiting", guard, GuardedDataSource::getWaiting)
+                            .description("Threads waiting for a pooled connection")
+                            .register(registry);
+                    FunctionCounter.builder("tasks.datasource.guard.rejected", guard, GuardedDataSource::getRejected)
+                            .description("Connection requests rejected by the guard")
+                            .register(registry);
+                });
+    }
+}
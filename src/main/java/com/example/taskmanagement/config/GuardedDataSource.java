@@ -0,0 +1,75 @@
+package com.example.taskmanagement.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounds how many threads may wait on the connection pool at once and rejects the rest
+ * immediately. With virtual threads every request can block on {@code getConnection()},
+ * so without a bound a burst queues thousands of waiters that all time out together.
+ */
+public class GuardedDataSource extends DelegatingDataSource {
+
+    private final int maxWaiting;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public GuardedDataSource(DataSource target, int maxWaiting) {
+        super(target);
+        this.maxWaiting = maxWaiting;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return super.getConnection();
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new SQLTransientConnectionException(
+                    "Too many threads waiting for a database connection (limit " + maxWaiting + ")");
+        }
+    }
+
+    // Finds the guard in a chain of delegating DataSources, or null when there is none
+    public static GuardedDataSource find(DataSource dataSource) {
+        while (dataSource instanceof DelegatingDataSource delegating) {
+            if (delegating instanceof GuardedDataSource guard) {
+                return guard;
+            }
+            dataSource = delegating.getTargetDataSource();
+        }
+        return null;
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
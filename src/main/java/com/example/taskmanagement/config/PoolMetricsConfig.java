@@ -0,0 +1,48 @@
+package com.example.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Publishes {@code tasks.datasource.pool.saturation} for every Hikari pool: connections in use plus
+ * threads waiting for one, over the pool size. Up to 1 the pool keeps up; above 1 requests are
+ * queueing for connections, which {@code hikaricp.connections.acquire} shows as latency.
+ */
+@Configuration
+public class PoolMetricsConfig {
+
+    @Bean
+    public MeterBinder poolSaturationMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .forEach(pool -> bind(registry, pool));
+    }
+
+    /** Registers the saturation gauge of a pool that is not a DataSource bean, like the replica pools. */
+    public static void bind(MeterRegistry registry, HikariDataSource pool) {
+        Gauge.builder("tasks.datasource.pool.saturation", pool, PoolMetricsConfig::saturation)
+                .description("Connections in use and awaited over the pool size")
+                .tag("pool", String.valueOf(pool.getPoolName()))
+                .register(registry);
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+        if (mxBean == null) {
+            return 0;
+        }
+        return (double) (mxBean.getActiveConnections() + mxBean.getThreadsAwaitingConnection())
+                / pool.getMaximumPoolSize();
+    }
+}
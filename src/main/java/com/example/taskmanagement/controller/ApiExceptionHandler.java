@@ -0,0 +1,94 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.service.TaskNotFoundException;
+import com.example.taskmanagement.tenant.TenantQuotaExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Turns exceptions escaping the controllers into {@code {"error", "message"}} responses, including
+ * the ones Spring MVC raises itself (malformed parameters and bodies, unsupported methods).
+ * Expected misses do not get here: lookups return {@code Optional} and the controller answers
+ * {@code 404} directly.
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<Object> handleTaskNotFound(TaskNotFoundException e) {
+        logger.warn("Task not found with ID: {}", e.getTaskId());
+        return notFound(e.getTaskId());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Object> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Invalid request: {}", e.getMessage());
+        return error(HttpStatus.BAD_REQUEST, "Invalid request", e.getMessage());
+    }
+
+    // A stale If-Match is a failed precondition; a concurrent write without one is a conflict
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleConflict(OptimisticLockingFailureException e, HttpServletRequest request) {
+        logger.warn("Conflicting write: {}", e.getMessage());
+        HttpStatus status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+        return error(status, "Task was modified", "The task has been changed by another request; fetch it and retry");
+    }
+
+    @ExceptionHandler(TenantQuotaExceededException.class)
+    public ResponseEntity<Object> handleQuotaExceeded(TenantQuotaExceededException e) {
+        logger.warn("Rejected write over tenant quota: {}", e.getMessage());
+        return error(HttpStatus.FORBIDDEN, "Quota exceeded", e.getMessage());
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<Object> handleUnexpected(Exception e, HttpServletRequest request) {
+        logger.error("Error handling {} {}: {}", request.getMethod(), request.getRequestURI(), e.getMessage(), e);
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error",
+                "An error occurred while processing the request");
+    }
+
+    // Spring's own exceptions keep their status; only the body is replaced
+    @Override
+    protected ResponseEntity<Object> handleExceptionInternal(@NonNull Exception ex, Object body,
+                                                             @NonNull HttpHeaders headers,
+                                                             @NonNull HttpStatusCode statusCode,
+                                                             @NonNull WebRequest request) {
+        HttpStatus status = HttpStatus.resolve(statusCode.value());
+        String message = body instanceof ProblemDetail problem ? problem.getDetail() : ex.getMessage();
+        return super.handleExceptionInternal(ex, body(status != null ? status.getReasonPhrase() : "Error", message),
+                headers, statusCode, request);
+    }
+
+    static ResponseEntity<Object> notFound(long id) {
+        return error(HttpStatus.NOT_FOUND, "Task not found", "Task with ID " + id + " does not exist");
+    }
+
+    static ResponseEntity<Object> error(HttpStatus status, String error, String message) {
+        return ResponseEntity.status(status).body(body(error, message));
+    }
+
+    private static Map<String, String> body(String error, String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("error", error);
+        body.put("message", message);
+        return body;
+    }
+}
@@ -1,224 +1,431 @@
 package com.example.taskmanagement.controller;
 
+import com.example.taskmanagement.cache.TaskCache;
+import com.example.taskmanagement.dto.BatchResult;
+import com.example.taskmanagement.dto.StatusTransitionRequest;
+import com.example.taskmanagement.dto.TaskFields;
+import com.example.taskmanagement.dto.TaskPage;
+import com.example.taskmanagement.dto.TaskPatch;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.dto.TaskView;
+import com.example.taskmanagement.events.TaskEventHub;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
 import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.stats.TaskStatistics;
+import com.example.taskmanagement.tenant.TenantContext;
+import com.example.taskmanagement.time.RequestClock;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.HashMap;
-import java.util.Collections;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/tasks")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {"X-Next-Cursor", HttpHeaders.ETAG})
 public class TaskController {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String APPLICATION_MERGE_PATCH_JSON = "application/merge-patch+json";
+    private static final String RETURN_REPRESENTATION = "return=representation";
+
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskCache taskCache;
+    private final TaskStatistics taskStatistics;
+    private final TaskEventHub taskEventHub;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper, TaskCache taskCache,
+                          TaskStatistics taskStatistics, TaskEventHub taskEventHub) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.taskCache = taskCache;
+        this.taskStatistics = taskStatistics;
+        this.taskEventHub = taskEventHub;
     }
 
     @GetMapping
-    public ResponseEntity<List<Task>> getAllTasks() {
-        try {
-            logger.info("Request received to get all tasks");
-            List<Task> tasks = taskService.getAllTasks();
-            logger.info("Successfully retrieved {} tasks", tasks.size());
-            return ResponseEntity.ok(tasks);
-        } catch (Exception e) {
-            logger.error("Error fetching all tasks: {}", e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(Collections.emptyList());
+    public ResponseEntity<Object> getAllTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Set<String> selected = TaskFields.select(view, fields);
+        if (limit != null || cursor != null || sort != null) {
+            logger.info("Request received to get a page of tasks with limit: {} and sort: {}", limit, sort);
+            TaskPage page = taskService.getTasksPage(cursor, limit, sort);
+            logger.info("Successfully retrieved page of {} tasks", page.getItems().size());
+            Object body = page;
+            if (selected != null) {
+                Map<String, Object> projected = new LinkedHashMap<>();
+                projected.put("items", new TaskView(page.getItems(), selected));
+                projected.put("nextCursor", page.getNextCursor());
+                body = projected;
+            }
+            return conditionalList(page.getItems(), page.getNextCursor(), selected, ifNoneMatch,
+                    ResponseEntity.ok(), body);
         }
+        logger.info("Request received to get all tasks");
+        List<Task> tasks = taskService.getAllTasks();
+        logger.info("Successfully retrieved {} tasks", tasks.size());
+        return conditionalList(tasks, null, selected, ifNoneMatch, ResponseEntity.ok(), render(tasks, selected));
     }
 
-    @GetMapping("/{id}")
-    public ResponseEntity<Object> getTaskById(@PathVariable Long id) {
-        try {
-            logger.info("Request received to get task with ID: {}", id);
-            
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID provided: {}", id);
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "Invalid task ID");
-                error.put("message", "Task ID must be a positive number");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllTasks() {
+        logger.info("Request received to stream all tasks");
+        // The body is written on another thread, which must work for the same tenant and clock
+        long userId = TenantContext.currentUserId();
+        LocalDateTime now = RequestClock.now();
+        StreamingResponseBody body = out -> {
+            TenantContext.set(userId);
+            RequestClock.set(now);
+            // One JSON document per line, flushed as rows arrive from the forward-only cursor
+            ObjectWriter writer = objectMapper.writerFor(Task.class);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.setRootValueSeparator(null);
+                taskService.streamAllTasks(task -> {
+                    try {
+                        writer.writeValue(generator, task);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } finally {
+                TenantContext.clear();
+                RequestClock.clear();
             }
-            
-            Task task = taskService.getTaskById(id);
-            logger.info("Successfully retrieved task with ID: {}", id);
-            return ResponseEntity.ok(task);
-        } catch (RuntimeException e) {
-            logger.warn("Task not found with ID: {}. Error: {}", id, e.getMessage());
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Task not found");
-            error.put("message", "Task with ID " + id + " does not exist");
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching task with ID {}: {}", id, e.getMessage(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Internal server error");
-            error.put("message", "An error occurred while fetching the task");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
-        }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
     }
 
-    @PostMapping
-    public ResponseEntity<Object> createTask(@RequestBody Task task) {
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(
+            @RequestParam(required = false) List<String> status,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         try {
-            logger.info("Request received to create new task");
-            
-            if (task == null) {
-                logger.warn("Attempted to create null task");
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "Invalid request");
-                error.put("message", "Task data is required");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+            long userId = TenantContext.currentUserId();
+            logger.info("Request received to subscribe to task events with status: {} and userId: {}", status, userId);
+            EnumSet<TaskStatus> statuses = EnumSet.noneOf(TaskStatus.class);
+            if (status != null) {
+                status.stream().filter(StringUtils::hasText).map(this::parseStatus).forEach(statuses::add);
             }
-            
-            Task createdTask = taskService.createTask(task);
-            logger.info("Successfully created task with ID: {}", createdTask.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
+            return ResponseEntity.ok(taskEventHub.subscribe(statuses, userId, lastEventId));
         } catch (IllegalArgumentException e) {
-            logger.warn("Validation error creating task: {}", e.getMessage());
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Validation error");
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-        } catch (Exception e) {
-            logger.error("Error creating task: {}", e.getMessage(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Internal server error");
-            error.put("message", "An error occurred while creating the task");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+            logger.warn("Invalid event subscription parameters: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            logger.warn("Rejected event subscription: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
         }
     }
 
-    @PutMapping("/{id}")
-    public ResponseEntity<Object> updateTask(@PathVariable Long id, @RequestBody Task task) {
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(taskStatistics.snapshot(TenantContext.currentUserId()));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        return ResponseEntity.ok(taskCache.stats());
+    }
+
+    @GetMapping("/overdue")
+    public ResponseEntity<Object> getOverdueTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return deadlineList("overdue", () -> taskService.getOverdueTasks(limit), view, fields, ifNoneMatch);
+    }
+
+    @GetMapping("/due-soon")
+    public ResponseEntity<Object> getDueSoonTasks(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return deadlineList("due soon", () -> taskService.getDueSoonTasks(limit), view, fields, ifNoneMatch);
+    }
+
+    // Lists served from the deadline engine's index, ordered by deadline
+    private ResponseEntity<Object> deadlineList(String kind, Supplier<List<Task>> lookup, String view,
+                                                List<String> fields, String ifNoneMatch) {
         try {
-            logger.info("Request received to update task with ID: {}", id);
-            
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID provided for update: {}", id);
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "Invalid task ID");
-                error.put("message", "Task ID must be a positive number");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-            }
-            
-            if (task == null) {
-                logger.warn("Attempted to update task with null data");
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "Invalid request");
-                error.put("message", "Task data is required");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-            }
-            
-            Task updatedTask = taskService.updateTask(id, task);
-            logger.info("Successfully updated task with ID: {}", id);
-            return ResponseEntity.ok(updatedTask);
-        } catch (IllegalArgumentException e) {
-            logger.warn("Validation error updating task with ID {}: {}", id, e.getMessage());
+            logger.info("Request received to get {} tasks", kind);
+            Set<String> selected = TaskFields.select(view, fields);
+            List<Task> tasks = lookup.get();
+            logger.info("Successfully retrieved {} {} tasks", tasks.size(), kind);
+            return conditionalList(tasks, null, selected, ifNoneMatch, ResponseEntity.ok(), render(tasks, selected));
+        } catch (IllegalStateException e) {
+            // The deadline index is still loading
+            logger.warn("Could not list {} tasks: {}", kind, e.getMessage());
             Map<String, String> error = new HashMap<>();
-            error.put("error", "Validation error");
+            error.put("error", "Service unavailable");
             error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-        } catch (RuntimeException e) {
-            logger.warn("Task not found for update with ID: {}. Error: {}", id, e.getMessage());
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Task not found");
-            error.put("message", "Task with ID " + id + " does not exist");
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-        } catch (Exception e) {
-            logger.error("Unexpected error updating task with ID {}: {}", id, e.getMessage(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Internal server error");
-            error.put("message", "An error occurred while updating the task");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(error);
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Object> getTaskById(@PathVariable("id") String idParam,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Request received to get task with ID: {}", idParam);
+        long id = parseId(idParam);
+        if (id <= 0) {
+            logger.warn("Invalid task ID provided: {}", idParam);
+            return invalidId();
+        }
+
+        Optional<Task> found = taskService.findTaskById(id);
+        if (found.isEmpty()) {
+            logger.warn("Task not found with ID: {}", id);
+            return ApiExceptionHandler.notFound(id);
+        }
+        Task task = found.get();
+        String etag = TaskETags.of(task);
+        if (TaskETags.matches(ifNoneMatch, etag)) {
+            logger.info("Task with ID {} not modified", id);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
         }
+        logger.info("Successfully retrieved task with ID: {}", id);
+        return ResponseEntity.ok().eTag(etag).body(task);
+    }
+
+    @PostMapping
+    public ResponseEntity<Object> createTask(@RequestBody Task task) {
+        logger.info("Request received to create new task");
+        if (task == null) {
+            logger.warn("Attempted to create null task");
+            return ApiExceptionHandler.error(HttpStatus.BAD_REQUEST, "Invalid request", "Task data is required");
+        }
+
+        Task createdTask = taskService.createTask(task);
+        logger.info("Successfully created task with ID: {}", createdTask.getId());
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(createdTask)).body(createdTask);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<Object> updateTask(@PathVariable("id") String idParam, @RequestBody Task task,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("Request received to update task with ID: {}", idParam);
+        long id = parseId(idParam);
+        if (id <= 0) {
+            logger.warn("Invalid task ID provided for update: {}", idParam);
+            return invalidId();
+        }
+        if (task == null) {
+            logger.warn("Attempted to update task with null data");
+            return ApiExceptionHandler.error(HttpStatus.BAD_REQUEST, "Invalid request", "Task data is required");
+        }
+
+        Long expectedVersion = ifMatch != null ? TaskETags.expectedVersion(ifMatch) : null;
+        Task updatedTask = taskService.updateTask(id, task, expectedVersion);
+        logger.info("Successfully updated task with ID: {}", id);
+        return ResponseEntity.ok().eTag(TaskETags.of(updatedTask)).body(updatedTask);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_MERGE_PATCH_JSON})
+    public ResponseEntity<Object> patchTask(@PathVariable("id") String idParam,
+            @RequestBody Map<String, Object> document,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+        logger.info("Request received to patch task with ID: {}", idParam);
+        long id = parseId(idParam);
+        if (id <= 0) {
+            logger.warn("Invalid task ID provided for patch: {}", idParam);
+            return invalidId();
+        }
+
+        Long expectedVersion = ifMatch != null ? TaskETags.expectedVersion(ifMatch) : null;
+        taskService.patchTask(id, TaskPatch.from(document), expectedVersion);
+        logger.info("Successfully patched task with ID: {}", id);
+        // The update is written without reading the row; return it only when asked to
+        if (prefer != null && prefer.contains(RETURN_REPRESENTATION)) {
+            return taskService.findTaskById(id)
+                    .<ResponseEntity<Object>>map(patchedTask -> ResponseEntity.ok().eTag(TaskETags.of(patchedTask))
+                            .body(patchedTask))
+                    .orElseGet(() -> ApiExceptionHandler.notFound(id));
+        }
+        return ResponseEntity.noContent().build();
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Object> deleteTask(@PathVariable Long id) {
-        try {
-            logger.info("Request received to delete task with ID: {}", id);
-            
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID provided for deletion: {}", id);
-                Map<String, String> error = new HashMap<>();
-                error.put("error", "Invalid task ID");
-                error.put("message", "Task ID must be a positive number");
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-            }
-            
-            taskService.deleteTask(id);
-            logger.info("Successfully deleted task with ID: {}", id);
-            return ResponseEntity.noContent().build();
-        } catch (RuntimeException e) {
-            logger.warn("Task not found for deletion with ID: {}. Error: {}", id, e.getMessage());
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Task not found");
-            error.put("message", "Task with ID " + id + " does not exist");
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
-        } catch (Exception e) {
-            logger.error("Unexpected error deleting task with ID {}: {}", id, e.getMessage(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Internal server error");
-            error.put("message", "An error occurred while deleting the task");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+    public ResponseEntity<Object> deleteTask(@PathVariable("id") String idParam) {
+        logger.info("Request received to delete task with ID: {}", idParam);
+        long id = parseId(idParam);
+        if (id <= 0) {
+            logger.warn("Invalid task ID provided for deletion: {}", idParam);
+            return invalidId();
         }
+
+        taskService.deleteTask(id);
+        logger.info("Successfully deleted task with ID: {}", id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createTasks(@RequestBody List<Task> tasks) {
+        return runBatch("create", () -> taskService.createTasks(tasks));
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<Object> updateTasks(@RequestBody List<Task> tasks) {
+        return runBatch("update", () -> taskService.updateTasks(tasks));
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<Object> deleteTasks(@RequestBody List<Long> ids) {
+        return runBatch("delete", () -> taskService.deleteTasks(ids));
+    }
+
+    @PatchMapping("/batch/status")
+    public ResponseEntity<Object> updateTaskStatuses(@RequestBody StatusTransitionRequest request) {
+        return runBatch("status transition", () -> taskService.updateTaskStatuses(request.getIds(),
+                request.getStatus() != null ? parseStatus(request.getStatus()) : null));
+    }
+
+    private ResponseEntity<Object> runBatch(String operation, Supplier<BatchResult> batch) {
+        logger.info("Request received to batch {} tasks", operation);
+        BatchResult result = batch.get();
+        logger.info("Batch {} completed: {} succeeded, {} failed",
+                operation, result.getSucceeded(), result.getFailed());
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/search")
     public ResponseEntity<Object> searchTasks(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String title,
-            @RequestParam(required = false) String status) {
-        try {
-            logger.info("Request received to search tasks with title: {} and status: {}", title, status);
-            List<Task> tasks;
-            
-            if (title != null && !title.trim().isEmpty() && status != null && !status.trim().isEmpty()) {
-                // Search by both title and status: first get by title, then filter by status
-                logger.debug("Searching by both title and status");
-                List<Task> titleResults = taskService.searchTasksByTitle(title);
-                tasks = titleResults.stream()
-                    .filter(task -> status.equalsIgnoreCase(task.getStatus().name()))
-                    .collect(java.util.stream.Collectors.toList());
-            } else if (title != null && !title.trim().isEmpty()) {
-                logger.debug("Searching by title only");
-                tasks = taskService.searchTasksByTitle(title);
-            } else if (status != null && !status.trim().isEmpty()) {
-                logger.debug("Searching by status only");
-                tasks = taskService.getTasksByStatus(status);
-            } else {
-                logger.debug("No search parameters provided, returning all tasks");
-                tasks = taskService.getAllTasks();
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) List<Integer> priority,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime deadlineTo,
+            @RequestParam(required = false) String assignedTo,
+            @RequestParam(required = false) Boolean overdue,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) List<String> fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        logger.info("Request received to search tasks with query: {}, title: {} and status: {}", q, title, status);
+        TaskSearchCriteria criteria = new TaskSearchCriteria();
+        criteria.setQuery(StringUtils.hasText(q) ? q.trim() : null);
+        criteria.setTitle(StringUtils.hasText(title) ? title.trim() : null);
+        if (status != null) {
+            criteria.setStatuses(status.stream().filter(StringUtils::hasText).map(this::parseStatus).toList());
+        }
+        criteria.setPriorities(priority);
+        criteria.setDeadlineFrom(deadlineFrom);
+        criteria.setDeadlineTo(deadlineTo);
+        criteria.setAssignedTo(StringUtils.hasText(assignedTo) ? assignedTo.trim() : null);
+        criteria.setOverdue(overdue);
+        // sort=property or sort=property,desc; text queries rank by relevance unless told otherwise
+        if (sort == null) {
+            sort = criteria.getQuery() != null ? "relevance" : "id";
+        }
+        String[] sortParts = sort.split(",", 2);
+        criteria.setSort(sortParts[0].trim());
+        criteria.setDescending(sortParts.length > 1 && "desc".equalsIgnoreCase(sortParts[1].trim()));
+        criteria.setLimit(limit);
+        criteria.setOffset(offset);
+        criteria.setCursor(cursor);
+        criteria.setFields(TaskFields.select(view, fields));
+
+        TaskPage page = taskService.searchTasks(criteria);
+        logger.info("Search completed. Found {} tasks", page.getItems().size());
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        if (criteria.getFields() == null) {
+            return conditionalList(page.getItems(), page.getNextCursor(), null, ifNoneMatch, response,
+                    page.getItems());
+        }
+        // Projected rows may lack the version and deadline the list tag is built from
+        return response.body(new TaskView(page.getItems(), criteria.getFields()));
+    }
+
+    // The full tasks, or only the selected fields of each
+    private static Object render(List<Task> tasks, Set<String> fields) {
+        return fields == null ? tasks : new TaskView(tasks, fields);
+    }
+
+    // Answers 304 when the client already holds this list, otherwise the body tagged with its ETag
+    private ResponseEntity<Object> conditionalList(List<Task> tasks, String nextCursor, Set<String> fields,
+                                                   String ifNoneMatch, ResponseEntity.BodyBuilder response,
+                                                   Object body) {
+        String etag = TaskETags.of(tasks, nextCursor, fields);
+        if (TaskETags.matches(ifNoneMatch, etag)) {
+            ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag);
+            if (nextCursor != null) {
+                notModified.header(NEXT_CURSOR_HEADER, nextCursor);
+            }
+            return notModified.build();
+        }
+        return response.eTag(etag).body(body);
+    }
+
+    private static ResponseEntity<Object> invalidId() {
+        return ApiExceptionHandler.error(HttpStatus.BAD_REQUEST, "Invalid task ID",
+                "Task ID must be a positive number");
+    }
+
+    // The id in the path, or 0 when it is not a positive number. Parsed here rather than bound as
+    // a Long so that the malformed ids scanners send do not each cost a conversion exception.
+    private static long parseId(String id) {
+        if (id.isEmpty() || id.length() > 18) {
+            return 0;
+        }
+        long value = 0;
+        for (int i = 0; i < id.length(); i++) {
+            char digit = id.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return 0;
             }
-            
-            logger.info("Search completed. Found {} tasks", tasks.size());
-            return ResponseEntity.ok(tasks);
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    private TaskStatus parseStatus(String status) {
+        try {
+            return TaskStatus.valueOf(status.trim().toUpperCase());
         } catch (IllegalArgumentException e) {
-            logger.warn("Invalid search parameters: {}", e.getMessage());
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Invalid parameter");
-            error.put("message", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
-        } catch (Exception e) {
-            logger.error("Error searching tasks: {}", e.getMessage(), e);
-            Map<String, String> error = new HashMap<>();
-            error.put("error", "Internal server error");
-            error.put("message", "An error occurred while searching tasks");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
+            throw new IllegalArgumentException("Invalid task status: " + status);
         }
     }
 }
@@ -0,0 +1,86 @@
+package com.example.taskmanagement.controller;
+
+import com.example.taskmanagement.model.Task;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Entity tags for task representations.
+ *
+ * <p>A single task is tagged with its version. Tasks with a deadline also carry the computed
+ * deadline fields, which change over time without a write. Lists get a weak tag hashed from
+ * every item's tag, the next-page cursor and, for field-filtered lists, the selected fields.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Task task) {
+        return "\"" + versionTag(task) + "\"";
+    }
+
+    // A field-filtered list is another representation of the same tasks, so its fields join the tag
+    static String of(List<Task> tasks, String nextCursor, Set<String> fields) {
+        long hash = 1125899906842597L;
+        for (Task task : tasks) {
+            hash = 31 * hash + Objects.hashCode(task.getId());
+            hash = 31 * hash + versionTag(task).hashCode();
+        }
+        hash = 31 * hash + Objects.hashCode(nextCursor);
+        if (fields != null) {
+            hash = 31 * hash + String.join(",", fields).hashCode();
+        }
+        return "W/\"" + tasks.size() + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    // Weak comparison as required for If-None-Match
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag) || stripWeak(tag).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Version an If-Match header asks for: {@code null} for {@code *}, and -1, which never
+     * matches, when the tag was not issued by {@link #of(Task)}.
+     */
+    static Long expectedVersion(String ifMatch) {
+        String tag = ifMatch.split(",")[0].trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        if (tag.startsWith("W/") || tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return -1L;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int dash = value.indexOf('-');
+        try {
+            return Long.parseLong(dash < 0 ? value : value.substring(0, dash));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static String versionTag(Task task) {
+        String version = String.valueOf(task.getVersion());
+        if (task.getDeadline() == null) {
+            return version;
+        }
+        return version + "-" + task.getDaysUntilDeadline() + (task.isOverdue() ? "o" : "");
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
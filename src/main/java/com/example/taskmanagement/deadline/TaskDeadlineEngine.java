@@ -0,0 +1,418 @@
+package com.example.taskmanagement.deadline;
+
+import com.example.taskmanagement.events.TaskChangeEvent;
+import com.example.taskmanagement.events.TaskEventHub;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import com.example.taskmanagement.repository.TaskJdbcDao;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the deadlines of active tasks in memory so overdue and due-soon lists are served
+ * without querying the table, and raises {@code DUE_SOON} and {@code OVERDUE} events as
+ * deadlines are crossed.
+ *
+ * <p>Active tasks with a deadline are loaded in deadline order through {@code idx_task_deadline},
+ * then kept current from committed change events. Each task sits in one of three sets ordered
+ * by deadline (pending, due soon, overdue); every tick moves the entries whose boundary has
+ * passed from the head of one set to the next, so a tick costs only the transitions it fires.
+ * The same sets are also kept per tenant, so listing one tenant's tasks does not walk the
+ * others'. Writes made by other processes are picked up by a periodic resync.
+ */
+@Component
+public class TaskDeadlineEngine implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDeadlineEngine.class);
+    private static final Comparator<Entry> BY_DEADLINE =
+            Comparator.comparing(Entry::deadline).thenComparingLong(Entry::id);
+
+    private final TaskJdbcDao taskJdbcDao;
+    private final TaskEventHub taskEventHub;
+    private final Duration dueSoonWindow;
+    private final long tickIntervalMillis;
+    private final long resyncIntervalMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("deadline-engine").daemon().unstarted(runnable));
+
+    // Guarded by this
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Phase, NavigableSet<Entry>> phases = newPhaseSets();
+    private final Map<Long, Map<Phase, NavigableSet<Entry>>> phasesByUser = new HashMap<>();
+    // Tasks to re-read on the next tick, and tasks changed while a read was in flight
+    private final Set<Long> reloads = new HashSet<>();
+    private Set<Long> changedDuringRead;
+
+    private volatile boolean loaded;
+    private long lastResync;
+    private final AtomicLong dueSoonFired = new AtomicLong();
+    private final AtomicLong overdueFired = new AtomicLong();
+
+    public TaskDeadlineEngine(TaskJdbcDao taskJdbcDao, TaskEventHub taskEventHub,
+                              @Value("${app.tasks.deadlines.due-soon-window:24h}") Duration dueSoonWindow,
+                              @Value("${app.tasks.deadlines.tick-interval-ms:1000}") long tickIntervalMillis,
+                              @Value("${app.tasks.deadlines.resync-interval-ms:600000}") long resyncIntervalMillis) {
+        this.taskJdbcDao = taskJdbcDao;
+        this.taskEventHub = taskEventHub;
+        this.dueSoonWindow = dueSoonWindow;
+        this.tickIntervalMillis = tickIntervalMillis;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::tick, 0, tickIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Applies the changes to the index once the surrounding transaction commits
+    public void track(List<TaskChangeEvent> events) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(events);
+                }
+            });
+        } else {
+            apply(events);
+        }
+    }
+
+    /**
+     * Ids of a tenant's active tasks past their deadline, most overdue first; every tenant's
+     * when {@code userId} is null.
+     *
+     * @throws IllegalStateException while the index is still loading
+     */
+    public List<Long> overdueIds(Long userId, int limit) {
+        return idsIn(Phase.OVERDUE, userId, limit);
+    }
+
+    /**
+     * Ids of a tenant's active tasks due within the due-soon window, soonest first; every
+     * tenant's when {@code userId} is null.
+     *
+     * @throws IllegalStateException while the index is still loading
+     */
+    public List<Long> dueSoonIds(Long userId, int limit) {
+        return idsIn(Phase.DUE_SOON, userId, limit);
+    }
+
+    public Duration getDueSoonWindow() {
+        return dueSoonWindow;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Phase phase : Phase.values()) {
+            Gauge.builder("tasks.deadlines.tracked", this, engine -> engine.count(phase))
+                    .description("Active tasks with a deadline held by the deadline engine")
+                    .tag("phase", phase.name().toLowerCase())
+                    .register(registry);
+        }
+        FunctionCounter.builder("tasks.deadlines.transitions", dueSoonFired, AtomicLong::get)
+                .description("Deadline transitions raised as events")
+                .tag("type", "due_soon")
+                .register(registry);
+        FunctionCounter.builder("tasks.deadlines.transitions", overdueFired, AtomicLong::get)
+                .description("Deadline transitions raised as events")
+                .tag("type", "overdue")
+                .register(registry);
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            if (!loaded || now - lastResync >= resyncIntervalMillis) {
+                lastResync = now;
+                resync();
+            } else {
+                reloadChanged();
+            }
+            if (loaded) {
+                advance();
+            }
+        } catch (Exception e) {
+            logger.error("Error running deadline engine tick: {}", e.getMessage());
+        }
+    }
+
+    // Moves entries whose boundary has passed to their next phase and raises their events
+    private void advance() {
+        List<Entry> fired = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now();
+            NavigableSet<Entry> pending = phases.get(Phase.PENDING);
+            while (!pending.isEmpty() && phaseAt(pending.first().deadline(), now) != Phase.PENDING) {
+                Entry head = remove(pending.first().id());
+                fired.add(place(head, phaseAt(head.deadline(), now)));
+            }
+            NavigableSet<Entry> dueSoon = phases.get(Phase.DUE_SOON);
+            while (!dueSoon.isEmpty() && phaseAt(dueSoon.first().deadline(), now) == Phase.OVERDUE) {
+                fired.add(place(remove(dueSoon.first().id()), Phase.OVERDUE));
+            }
+        }
+        fired.forEach(this::fire);
+    }
+
+    // Re-reads every active deadline; entries keep their phase so crossings are still raised once
+    private void resync() {
+        synchronized (this) {
+            changedDuringRead = new HashSet<>();
+        }
+        List<Task> rows = new ArrayList<>();
+        try {
+            taskJdbcDao.streamActiveDeadlines(rows::add);
+        } catch (DataAccessException e) {
+            synchronized (this) {
+                changedDuringRead = null;
+            }
+            logger.error("Error loading task deadlines: {}", e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now();
+            Map<Long, Entry> previous = new HashMap<>(entries);
+            entries.clear();
+            phases.values().forEach(Set::clear);
+            phasesByUser.clear();
+            for (Task row : rows) {
+                if (changedDuringRead.contains(row.getId())) {
+                    continue;
+                }
+                Entry old = previous.get(row.getId());
+                Phase phase = old != null && old.deadline().equals(row.getDeadline())
+                        ? old.phase() : phaseAt(row.getDeadline(), now);
+                place(new Entry(row.getId(), row.getDeadline(), row.getStatus(), row.getUserId(), null), phase);
+            }
+            // The live entries of tasks written meanwhile are newer than what was read
+            for (Long id : changedDuringRead) {
+                Entry live = previous.get(id);
+                if (live != null) {
+                    place(live, live.phase());
+                }
+            }
+            changedDuringRead = null;
+            reloads.clear();
+            if (!loaded) {
+                logger.info("Deadline engine loaded {} active tasks with deadlines", entries.size());
+            }
+            loaded = true;
+        }
+    }
+
+    // Re-reads tasks whose change events did not carry enough to place them
+    private void reloadChanged() {
+        Set<Long> ids;
+        synchronized (this) {
+            if (reloads.isEmpty()) {
+                return;
+            }
+            ids = new HashSet<>(reloads);
+            reloads.clear();
+            changedDuringRead = new HashSet<>();
+        }
+        List<Task> rows;
+        try {
+            rows = taskJdbcDao.findDeadlines(ids);
+        } catch (DataAccessException e) {
+            synchronized (this) {
+                reloads.addAll(ids);
+                changedDuringRead = null;
+            }
+            logger.error("Error reloading {} task deadlines: {}", ids.size(), e.getMessage());
+            return;
+        }
+        List<Entry> fired = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now();
+            for (Task row : rows) {
+                if (!changedDuringRead.contains(row.getId())) {
+                    fired.addAll(upsert(row.getId(), row.getDeadline(), row.getStatus(), row.getUserId(), now));
+                }
+            }
+            changedDuringRead = null;
+        }
+        fired.forEach(this::fire);
+    }
+
+    private void apply(List<TaskChangeEvent> events) {
+        List<Entry> fired = new ArrayList<>();
+        synchronized (this) {
+            LocalDateTime now = LocalDateTime.now();
+            for (TaskChangeEvent event : events) {
+                if (changedDuringRead != null) {
+                    changedDuringRead.add(event.getTaskId());
+                }
+                Task task = event.getTask();
+                switch (event.getType()) {
+                    case CREATED, UPDATED -> {
+                        if (task != null) {
+                            fired.addAll(upsert(task.getId(), task.getDeadline(), task.getStatus(),
+                                    task.getUserId(), now));
+                        } else if (event.getChanges() != null) {
+                            fired.addAll(applyChanges(event.getTaskId(), event.getChanges(), now));
+                        }
+                    }
+                    case DELETED -> remove(event.getTaskId());
+                    default -> {
+                    }
+                }
+            }
+        }
+        fired.forEach(this::fire);
+    }
+
+    // Merges a partial write into the tracked entry, or schedules a re-read when there is none
+    private List<Entry> applyChanges(Long id, Map<String, Object> changes, LocalDateTime now) {
+        boolean deadlineChanged = changes.containsKey("deadline");
+        boolean statusChanged = changes.containsKey("status");
+        if (!deadlineChanged && !statusChanged) {
+            return List.of();
+        }
+        LocalDateTime deadline = (LocalDateTime) changes.get("deadline");
+        TaskStatus status = (TaskStatus) changes.get("status");
+        Entry old = entries.get(id);
+        if (old == null) {
+            // Untracked until now; the owner and whichever property was not written must be read
+            if ((!deadlineChanged || deadline != null) && (!statusChanged || isActive(status))) {
+                reloads.add(id);
+            }
+            return List.of();
+        }
+        return upsert(id, deadlineChanged ? deadline : old.deadline(), statusChanged ? status : old.status(),
+                old.userId(), now);
+    }
+
+    // Places the task in the phase its deadline is in; returns it when that raised a transition
+    private List<Entry> upsert(Long id, LocalDateTime deadline, TaskStatus status, Long userId, LocalDateTime now) {
+        Entry old = remove(id);
+        if (deadline == null || !isActive(status)) {
+            return List.of();
+        }
+        Phase phase = phaseAt(deadline, now);
+        Entry entry = place(new Entry(id, deadline, status, userId, null), phase);
+        boolean crossed = phase != Phase.PENDING && (old == null || old.phase() != phase);
+        return crossed ? List.of(entry) : List.of();
+    }
+
+    private Entry place(Entry entry, Phase phase) {
+        Entry placed = entry.phase() == phase ? entry
+                : new Entry(entry.id(), entry.deadline(), entry.status(), entry.userId(), phase);
+        entries.put(placed.id(), placed);
+        phases.get(phase).add(placed);
+        phasesByUser.computeIfAbsent(placed.userId(), key -> newPhaseSets()).get(phase).add(placed);
+        return placed;
+    }
+
+    private Entry remove(Long id) {
+        Entry old = entries.remove(id);
+        if (old != null) {
+            phases.get(old.phase()).remove(old);
+            Map<Phase, NavigableSet<Entry>> userPhases = phasesByUser.get(old.userId());
+            userPhases.get(old.phase()).remove(old);
+            if (userPhases.values().stream().allMatch(Set::isEmpty)) {
+                phasesByUser.remove(old.userId());
+            }
+        }
+        return old;
+    }
+
+    private void fire(Entry entry) {
+        if (entry.phase() == Phase.OVERDUE) {
+            overdueFired.incrementAndGet();
+            taskEventHub.dispatch(
+                    TaskChangeEvent.overdue(entry.id(), entry.deadline(), entry.status(), entry.userId()));
+        } else {
+            dueSoonFired.incrementAndGet();
+            taskEventHub.dispatch(
+                    TaskChangeEvent.dueSoon(entry.id(), entry.deadline(), entry.status(), entry.userId()));
+        }
+        logger.debug("Task {} is now {}", entry.id(), entry.phase());
+    }
+
+    private synchronized List<Long> idsIn(Phase phase, Long userId, int limit) {
+        if (!loaded) {
+            throw new IllegalStateException("Deadline index is still loading");
+        }
+        Map<Phase, NavigableSet<Entry>> scope = userId == null ? phases : phasesByUser.get(userId);
+        if (scope == null) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(Math.min(limit, scope.get(phase).size()));
+        for (Entry entry : scope.get(phase)) {
+            if (ids.size() == limit) {
+                break;
+            }
+            ids.add(entry.id());
+        }
+        return ids;
+    }
+
+    private synchronized int count(Phase phase) {
+        return phases.get(phase).size();
+    }
+
+    // Same rules as Task.isOverdue() and the dashboard's due-soon count
+    private Phase phaseAt(LocalDateTime deadline, LocalDateTime now) {
+        if (now.isAfter(deadline)) {
+            return Phase.OVERDUE;
+        }
+        return deadline.isBefore(now.plus(dueSoonWindow)) ? Phase.DUE_SOON : Phase.PENDING;
+    }
+
+    private static Map<Phase, NavigableSet<Entry>> newPhaseSets() {
+        Map<Phase, NavigableSet<Entry>> sets = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            sets.put(phase, new TreeSet<>(BY_DEADLINE));
+        }
+        return sets;
+    }
+
+    private static boolean isActive(TaskStatus status) {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+
+    private enum Phase {
+        PENDING,
+        DUE_SOON,
+        OVERDUE
+    }
+
+    private record Entry(long id, LocalDateTime deadline, TaskStatus status, Long userId, Phase phase) {
+    }
+}
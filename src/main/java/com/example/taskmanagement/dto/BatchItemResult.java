@@ -0,0 +1,27 @@
+package com.example.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Outcome of a single item in a batch create/update/delete request.
+ * {@code index} is the item's position in the request body.
+ */
+@Data
+@AllArgsConstructor
+public class BatchItemResult {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID,
+        FAILED
+    }
+
+    private int index;
+    private Long id;
+    private Outcome outcome;
+    private String message;
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagement.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-item results of a batch request, ordered by request index.
+ */
+@Data
+public class BatchResult {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> items = new ArrayList<>();
+
+    public void add(BatchItemResult item) {
+        items.add(item);
+        switch (item.getOutcome()) {
+            case CREATED, UPDATED, DELETED -> succeeded++;
+            default -> failed++;
+        }
+    }
+
+    public BatchResult sorted() {
+        items.sort(Comparator.comparingInt(BatchItemResult::getIndex));
+        return this;
+    }
+}
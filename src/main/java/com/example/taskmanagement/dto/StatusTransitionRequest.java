@@ -0,0 +1,14 @@
+package com.example.taskmanagement.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Body of a bulk status transition: move every task in {@code ids} to {@code status}.
+ */
+@Data
+public class StatusTransitionRequest {
+    private List<Long> ids;
+    private String status;
+}
@@ -0,0 +1,140 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.Task;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps the JSON property names of {@link Task} to their columns and builds
+ * field-filtered representations for the {@code fields=} and {@code view=} projections.
+ */
+public final class TaskFields {
+
+    // Stored properties in declaration order, keyed by JSON name
+    public static final Map<String, String> COLUMNS;
+
+    // Properties derived from the deadline rather than stored
+    public static final Set<String> COMPUTED = Set.of("overdue", "daysUntilDeadline", "daysOverdue");
+
+    // Named field sets for view=; the full view is the complete task representation
+    public static final String FULL_VIEW = "full";
+    public static final Map<String, Set<String>> VIEWS = Map.of(
+            "summary", orderedSet("id", "title", "status", "priority", "deadline", "overdue", "version"),
+            "detail", orderedSet("id", "title", "description", "status", "priority", "deadline", "assignedTo",
+                    "estimatedHours", "actualHours", "createdAt", "updatedAt", "overdue", "daysUntilDeadline",
+                    "version"));
+
+    static {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("id", "id");
+        columns.put("title", "title");
+        columns.put("description", "description");
+        columns.put("status", "status");
+        columns.put("createdAt", "created_at");
+        columns.put("updatedAt", "updated_at");
+        columns.put("deadline", "deadline");
+        columns.put("priority", "priority");
+        columns.put("userId", "user_id");
+        columns.put("assignedTo", "assigned_to");
+        columns.put("estimatedHours", "estimated_hours");
+        columns.put("actualHours", "actual_hours");
+        columns.put("attachmentUrl", "attachment_url");
+        columns.put("attachmentFilename", "attachment_filename");
+        columns.put("version", "version");
+        COLUMNS = Collections.unmodifiableMap(columns);
+    }
+
+    private TaskFields() {
+    }
+
+    public static boolean isKnown(String field) {
+        return COLUMNS.containsKey(field) || COMPUTED.contains(field);
+    }
+
+    /**
+     * Fields selected by either {@code view} or {@code fields}; {@code null} for the full
+     * representation when neither is given or the view is {@code full}.
+     */
+    public static Set<String> select(String view, List<String> fields) {
+        boolean hasFields = fields != null && fields.stream().anyMatch(StringUtils::hasText);
+        if (StringUtils.hasText(view) && hasFields) {
+            throw new IllegalArgumentException("Use either view or fields, not both");
+        }
+        if (hasFields) {
+            Set<String> selected = new LinkedHashSet<>();
+            for (String field : fields) {
+                if (!StringUtils.hasText(field)) {
+                    continue;
+                }
+                if (!isKnown(field.trim())) {
+                    throw new IllegalArgumentException("Unknown field: " + field.trim());
+                }
+                selected.add(field.trim());
+            }
+            return selected;
+        }
+        if (!StringUtils.hasText(view) || FULL_VIEW.equals(view.trim())) {
+            return null;
+        }
+        Set<String> selected = VIEWS.get(view.trim());
+        if (selected == null) {
+            throw new IllegalArgumentException("Unknown view: " + view.trim());
+        }
+        return selected;
+    }
+
+    // Columns that must be selected to render the requested fields
+    public static Set<String> columnsFor(Set<String> fields) {
+        Set<String> columns = new LinkedHashSet<>();
+        for (String field : fields) {
+            if (COMPUTED.contains(field)) {
+                columns.add(COLUMNS.get("deadline"));
+            } else {
+                columns.add(COLUMNS.get(field));
+            }
+        }
+        return columns;
+    }
+
+    public static Map<String, Object> project(Task task, Set<String> fields) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        for (String field : fields) {
+            view.put(field, valueOf(task, field));
+        }
+        return view;
+    }
+
+    static Object valueOf(Task task, String field) {
+        return switch (field) {
+            case "id" -> task.getId();
+            case "title" -> task.getTitle();
+            case "description" -> task.getDescription();
+            case "status" -> task.getStatus();
+            case "createdAt" -> task.getCreatedAt();
+            case "updatedAt" -> task.getUpdatedAt();
+            case "deadline" -> task.getDeadline();
+            case "priority" -> task.getPriority();
+            case "userId" -> task.getUserId();
+            case "assignedTo" -> task.getAssignedTo();
+            case "estimatedHours" -> task.getEstimatedHours();
+            case "actualHours" -> task.getActualHours();
+            case "attachmentUrl" -> task.getAttachmentUrl();
+            case "attachmentFilename" -> task.getAttachmentFilename();
+            case "version" -> task.getVersion();
+            case "overdue" -> task.isOverdue();
+            case "daysUntilDeadline" -> task.getDaysUntilDeadline();
+            case "daysOverdue" -> task.getDaysOverdue();
+            default -> throw new IllegalArgumentException("Unknown field: " + field);
+        };
+    }
+
+    private static Set<String> orderedSet(String... fields) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(List.of(fields)));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.Task;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated task listing.
+ * {@code nextCursor} is {@code null} once the last page has been reached.
+ */
+@Data
+@AllArgsConstructor
+public class TaskPage {
+    private List<Task> items;
+    private String nextCursor;
+}
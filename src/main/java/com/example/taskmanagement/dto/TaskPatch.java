@@ -0,0 +1,111 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.TaskStatus;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A partial task update holding only the properties present in the request document.
+ * As in JSON Merge Patch (RFC 7396), an explicit {@code null} clears the property.
+ */
+public final class TaskPatch {
+
+    // Editable properties keyed by JSON name, mapped to their columns
+    public static final Map<String, String> COLUMNS;
+
+    static {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("title", "title");
+        columns.put("description", "description");
+        columns.put("status", "status");
+        columns.put("priority", "priority");
+        columns.put("deadline", "deadline");
+        columns.put("assignedTo", "assigned_to");
+        columns.put("estimatedHours", "estimated_hours");
+        columns.put("actualHours", "actual_hours");
+        COLUMNS = Collections.unmodifiableMap(columns);
+    }
+
+    private final Map<String, Object> changes;
+
+    private TaskPatch(Map<String, Object> changes) {
+        this.changes = Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Converts a parsed JSON document into typed values, rejecting properties that cannot
+     * be patched and values of the wrong type.
+     */
+    public static TaskPatch from(Map<String, Object> document) {
+        if (document == null || document.isEmpty()) {
+            throw new IllegalArgumentException("Patch must contain at least one property");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        document.forEach((field, value) -> {
+            if (!COLUMNS.containsKey(field)) {
+                throw new IllegalArgumentException("Property cannot be patched: " + field);
+            }
+            changes.put(field, value == null ? null : convert(field, value));
+        });
+        return new TaskPatch(changes);
+    }
+
+    public static TaskPatch ofStatus(TaskStatus status) {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("status", status);
+        return new TaskPatch(changes);
+    }
+
+    public boolean has(String field) {
+        return changes.containsKey(field);
+    }
+
+    public Object get(String field) {
+        return changes.get(field);
+    }
+
+    // Typed values keyed by JSON name, in request order
+    public Map<String, Object> getChanges() {
+        return changes;
+    }
+
+    private static Object convert(String field, Object value) {
+        try {
+            return switch (field) {
+                case "title", "description", "assignedTo" -> (String) value;
+                case "status" -> TaskStatus.valueOf(((String) value).trim().toUpperCase());
+                case "priority" -> {
+                    Number number = (Number) value;
+                    if (number.doubleValue() != number.intValue()) {
+                        throw new IllegalArgumentException("Priority must be a whole number");
+                    }
+                    yield number.intValue();
+                }
+                case "deadline" -> parseDateTime((String) value);
+                case "estimatedHours", "actualHours" -> ((Number) value).doubleValue();
+                default -> throw new IllegalArgumentException("Property cannot be patched: " + field);
+            };
+        } catch (ClassCastException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid value for " + field + ": " + value);
+        } catch (IllegalArgumentException e) {
+            if ("status".equals(field)) {
+                throw new IllegalArgumentException("Invalid task status: " + value);
+            }
+            throw e;
+        }
+    }
+
+    // Local date-times, plus UTC instants ending in Z as the PUT body's deserializer accepts them
+    private static LocalDateTime parseDateTime(String value) {
+        if (value.endsWith("Z")) {
+            return LocalDateTime.ofInstant(Instant.parse(value), ZoneOffset.UTC);
+        }
+        return LocalDateTime.parse(value);
+    }
+}
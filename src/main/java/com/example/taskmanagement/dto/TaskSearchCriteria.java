@@ -0,0 +1,37 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.TaskStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filters, ordering, paging and projection for a task search.
+ * Every non-null filter becomes a predicate of one SQL query.
+ */
+@Data
+public class TaskSearchCriteria {
+    // Full-text query over title and description
+    private String query;
+    private String title;
+    private List<TaskStatus> statuses;
+    private List<Integer> priorities;
+    private LocalDateTime deadlineFrom;
+    private LocalDateTime deadlineTo;
+    private String assignedTo;
+    private Boolean overdue;
+    private Long userId;
+
+    // Property (or "relevance" for text queries) to order by and whether to order descending
+    private String sort = "id";
+    private boolean descending;
+
+    private Integer limit;
+    private Integer offset;
+    private String cursor;
+
+    // Properties to return; null means every property
+    private Set<String> fields;
+}
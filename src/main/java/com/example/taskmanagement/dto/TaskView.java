@@ -0,0 +1,46 @@
+package com.example.taskmanagement.dto;
+
+import com.example.taskmanagement.model.Task;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tasks rendered with only the selected fields, in the order given. Each value is written
+ * straight to the generator, without a map or bean introspection per task, so the same view
+ * serves JSON, Smile and CBOR.
+ */
+@Data
+@AllArgsConstructor
+@JsonSerialize(using = TaskView.Serializer.class)
+public class TaskView {
+    private List<Task> tasks;
+    private Set<String> fields;
+
+    public static class Serializer extends StdSerializer<TaskView> {
+
+        public Serializer() {
+            super(TaskView.class);
+        }
+
+        @Override
+        public void serialize(TaskView view, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeStartArray(view.tasks, view.tasks.size());
+            for (Task task : view.tasks) {
+                generator.writeStartObject(task);
+                for (String field : view.fields) {
+                    provider.defaultSerializeField(field, TaskFields.valueOf(task, field), generator);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
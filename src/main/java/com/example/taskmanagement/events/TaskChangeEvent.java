@@ -0,0 +1,74 @@
+package com.example.taskmanagement.events;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * A committed change to one task, as pushed to event-stream subscribers.
+ *
+ * <p>{@code task} is the full new state when the writer had it; partial writes carry only
+ * {@code changes}. {@code status} and {@code previousStatus} are null when the writer did not
+ * read them, in which case the event passes the status filter. {@code userId}, the owning
+ * tenant, is always set. {@code DUE_SOON} and {@code OVERDUE} are raised by the deadline engine as time passes and
+ * carry the {@code deadline} that was crossed.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        DUE_SOON,
+        OVERDUE
+    }
+
+    private Type type;
+    private Long taskId;
+    private Task task;
+    private Map<String, Object> changes;
+    private TaskStatus status;
+    private TaskStatus previousStatus;
+    private Long userId;
+    private LocalDateTime deadline;
+
+    public static TaskChangeEvent created(Task task) {
+        return new TaskChangeEvent(Type.CREATED, task.getId(), task, null, task.getStatus(), null, task.getUserId(),
+                null);
+    }
+
+    public static TaskChangeEvent updated(Task task, TaskStatus previousStatus) {
+        return new TaskChangeEvent(Type.UPDATED, task.getId(), task, null, task.getStatus(), previousStatus,
+                task.getUserId(), null);
+    }
+
+    public static TaskChangeEvent patched(Long taskId, Long userId, Map<String, Object> changes) {
+        return new TaskChangeEvent(Type.UPDATED, taskId, null, changes, (TaskStatus) changes.get("status"), null,
+                userId, null);
+    }
+
+    public static TaskChangeEvent deleted(Task task) {
+        return new TaskChangeEvent(Type.DELETED, task.getId(), null, null, task.getStatus(), null, task.getUserId(),
+                null);
+    }
+
+    public static TaskChangeEvent deleted(Long taskId, Long userId) {
+        return new TaskChangeEvent(Type.DELETED, taskId, null, null, null, null, userId, null);
+    }
+
+    public static TaskChangeEvent dueSoon(Long taskId, LocalDateTime deadline, TaskStatus status, Long userId) {
+        return new TaskChangeEvent(Type.DUE_SOON, taskId, null, null, status, null, userId, deadline);
+    }
+
+    public static TaskChangeEvent overdue(Long taskId, LocalDateTime deadline, TaskStatus status, Long userId) {
+        return new TaskChangeEvent(Type.OVERDUE, taskId, null, null, status, null, userId, deadline);
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.taskmanagement.events;
+
+import com.example.taskmanagement.model.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed task changes out to server-sent-event subscribers.
+ *
+ * <p>Each event is serialized once. Subscribers hold no thread while idle: every subscriber has
+ * a bounded queue drained on a virtual thread, so a slow client only delays itself and is
+ * disconnected when its queue overflows. The last {@code replay-size} events are kept so a
+ * reconnecting client can resume from its {@code Last-Event-ID}; event ids carry a per-process
+ * epoch, and a client whose id is from another epoch or too old gets a {@code reset} event
+ * telling it to reload.
+ */
+@Component
+// Heartbeats are scheduled when the bean is created, so it stays eager under lazy initialization
+@Lazy(false)
+public class TaskEventHub implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventHub.class);
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("").build();
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Replay ring indexed by sequence; guarded by this, which also orders delivery
+    private final Replayed[] replay;
+    private long lastSequence;
+
+    public TaskEventHub(ObjectMapper objectMapper,
+                        @Value("${app.tasks.events.replay-size:1000}") int replaySize,
+                        @Value("${app.tasks.events.timeout:30m}") Duration timeout,
+                        @Value("${app.tasks.events.max-subscribers:10000}") int maxSubscribers,
+                        @Value("${app.tasks.events.queue-capacity:256}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.replay = new Replayed[replaySize];
+        this.timeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+    }
+
+    // Delivers the event once the surrounding transaction commits; dropped on rollback
+    public void publish(TaskChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Registers a subscriber receiving the tenant's events that match the status filter (null or
+     * empty means any), starting after {@code lastEventId} when it can still be replayed.
+     *
+     * @throws IllegalStateException when the subscriber limit is reached
+     */
+    public SseEmitter subscribe(Set<TaskStatus> statuses, long userId, String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many event subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter,
+                statuses == null || statuses.isEmpty() ? null : statuses, userId, queueCapacity + replay.length);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        synchronized (this) {
+            if (lastEventId != null) {
+                long after = resumePoint(lastEventId);
+                if (after < 0) {
+                    subscriber.offer(SseEmitter.event().name("reset").data("{}").build());
+                } else {
+                    for (long sequence = after + 1; sequence <= lastSequence; sequence++) {
+                        Replayed replayed = replay[slot(sequence)];
+                        if (subscriber.matches(replayed.event())) {
+                            subscriber.offer(replayed.frame());
+                        }
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        logger.debug("Event subscriber added; {} connected", subscribers.size());
+        return emitter;
+    }
+
+    // Keeps idle connections alive through proxies and detects clients that went away
+    @Scheduled(fixedDelayString = "${app.tasks.events.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(HEARTBEAT);
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.events.subscribers", subscribers, Set::size)
+                .description("Connected task event-stream subscribers")
+                .register(registry);
+        Gauge.builder("tasks.events.dropped", dropped, AtomicLong::get)
+                .description("Subscribers disconnected because their queue overflowed")
+                .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    // Delivers the event now; for events not tied to a transaction, or raised from a commit callback
+    public void dispatch(TaskChangeEvent event) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize change event for task {}: {}", event.getTaskId(), e.getMessage());
+            return;
+        }
+        synchronized (this) {
+            long sequence = ++lastSequence;
+            Set<ResponseBodyEmitter.DataWithMediaType> frame = Collections.unmodifiableSet(SseEmitter.event()
+                    .id(epoch + "-" + sequence)
+                    .name(event.getType().name().toLowerCase())
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build());
+            replay[slot(sequence)] = new Replayed(event, frame);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.matches(event)) {
+                    subscriber.offer(frame);
+                }
+            }
+        }
+    }
+
+    // Sequence to resume after, or -1 when the id is from another epoch or already evicted
+    private long resumePoint(String lastEventId) {
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) {
+            return -1;
+        }
+        try {
+            long sequence = Long.parseLong(lastEventId.substring(dash + 1));
+            if (sequence > lastSequence || sequence < lastSequence - replay.length) {
+                return -1;
+            }
+            return sequence;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private int slot(long sequence) {
+        return (int) (sequence % replay.length);
+    }
+
+    private record Replayed(TaskChangeEvent event, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<TaskStatus> statuses;
+        private final long userId;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Set<TaskStatus> statuses, long userId, int capacity) {
+            this.emitter = emitter;
+            this.statuses = statuses;
+            this.userId = userId;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        boolean matches(TaskChangeEvent event) {
+            if (event.getUserId() == null || userId != event.getUserId()) {
+                return false;
+            }
+            if (statuses == null || event.getStatus() == null || statuses.contains(event.getStatus())) {
+                return true;
+            }
+            // A task leaving a watched status must still reach the subscriber so it can drop it
+            return event.getType() == TaskChangeEvent.Type.UPDATED
+                    && (event.getPreviousStatus() == null || statuses.contains(event.getPreviousStatus()));
+        }
+
+        void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+            if (!queue.offer(frame)) {
+                dropped.incrementAndGet();
+                subscribers.remove(this);
+                emitter.complete();
+                logger.warn("Disconnected slow event subscriber after {} queued events", queue.size());
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame;
+                while ((frame = queue.poll()) != null) {
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // An offer may have raced with the end of the loop
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+    }
+}
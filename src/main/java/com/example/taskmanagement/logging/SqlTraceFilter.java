@@ -0,0 +1,57 @@
+package com.example.taskmanagement.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Turns on SQL tracing for a single request when it carries the trace header
+ * ({@code X-Debug-Sql} by default) set to the configured token, instead of logging every
+ * statement globally. Traces include bind values, so outside development the token is a secret;
+ * a blank token turns tracing off.
+ */
+@Component
+public class SqlTraceFilter extends OncePerRequestFilter {
+
+    public static final String MDC_KEY = "sqlTrace";
+
+    private final boolean enabled;
+    private final String headerName;
+    private final byte[] token;
+
+    public SqlTraceFilter(@Value("${app.logging.sql-trace.enabled:true}") boolean enabled,
+                          @Value("${app.logging.sql-trace.header:X-Debug-Sql}") String headerName,
+                          @Value("${app.logging.sql-trace.token:true}") String token) {
+        this.enabled = enabled && StringUtils.hasText(token);
+        this.headerName = headerName;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String value = enabled ? request.getHeader(headerName) : null;
+        // Compared in constant time so the token cannot be guessed from response timings
+        if (value == null || !MessageDigest.isEqual(token, value.getBytes(StandardCharsets.UTF_8))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, "true");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
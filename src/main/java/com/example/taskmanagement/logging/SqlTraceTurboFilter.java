@@ -0,0 +1,36 @@
+package com.example.taskmanagement.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Enables SQL statement and bind-parameter logging for requests marked by {@link SqlTraceFilter},
+ * regardless of the configured levels of the SQL loggers.
+ */
+public class SqlTraceTurboFilter extends TurboFilter {
+
+    private static final String[] SQL_LOGGERS = {
+            "org.hibernate.SQL",
+            "org.hibernate.orm.jdbc.bind",
+            "org.springframework.jdbc.core.JdbcTemplate",
+            "org.springframework.jdbc.core.StatementCreatorUtils"
+    };
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (MDC.get(SqlTraceFilter.MDC_KEY) == null) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        for (String sqlLogger : SQL_LOGGERS) {
+            if (name.startsWith(sqlLogger)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.taskmanagement.metrics;
+
+import com.example.taskmanagement.admission.DatabaseLatency;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every {@code TaskService} method, every public {@code TaskJdbcDao} query and every
+ * {@code TaskStore} call, whichever implementation is configured.
+ *
+ * <p>Publishes {@code tasks.service}, {@code tasks.dao} and {@code tasks.store} timers tagged with the method and the
+ * simple name of any exception thrown ({@code none} on success). Endpoint timings come from
+ * Spring MVC's {@code http.server.requests} and JPA repository timings from
+ * {@code spring.data.repository.invocations}. DAO and store timings also feed
+ * {@link DatabaseLatency}, which admission control adapts to. Streams and batch writes are left
+ * out of it, since they take as long as their data does, and so is any call made inside another
+ * timed DAO or store call, which is already counted once.
+ */
+@Aspect
+@Component
+public class TaskMetricsAspect {
+
+    private static final String NO_EXCEPTION = "none";
+
+    // Set while a DAO or store call is running, so nested calls are not counted twice
+    private static final ThreadLocal<Boolean> IN_DATABASE_CALL = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final DatabaseLatency databaseLatency;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    private record TimerKey(String name, String method, String exception) {
+    }
+
+    public TaskMetricsAspect(MeterRegistry meterRegistry, DatabaseLatency databaseLatency) {
+        this.meterRegistry = meterRegistry;
+        this.databaseLatency = databaseLatency;
+    }
+
+    @Around("execution(public * com.example.taskmanagement.service.TaskService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("tasks.service", joinPoint, false);
+    }
+
+    @Around("execution(public * com.example.taskmanagement.repository.TaskJdbcDao.*(..))")
+    public Object timeDao(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("tasks.dao", joinPoint, true);
+    }
+
+    @Around("execution(public * com.example.taskmanagement.repository.TaskStore+.*(..))")
+    public Object timeStore(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("tasks.store", joinPoint, true);
+    }
+
+    private Object time(String name, ProceedingJoinPoint joinPoint, boolean database) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        boolean outermost = database && IN_DATABASE_CALL.get() == null;
+        if (outermost) {
+            IN_DATABASE_CALL.set(Boolean.TRUE);
+        }
+        long start = System.nanoTime();
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            timers.computeIfAbsent(new TimerKey(name, method, exception), this::timer)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            if (outermost) {
+                IN_DATABASE_CALL.remove();
+                if (isLatencyBearing(method)) {
+                    databaseLatency.record(nanos);
+                }
+            }
+        }
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder(key.name())
+                .tag("method", key.method())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static boolean isLatencyBearing(String method) {
+        return !method.startsWith("stream") && !method.startsWith("batch");
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.taskmanagement.model;
 
+import com.example.taskmanagement.time.RequestClock;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
@@ -10,7 +12,12 @@ import java.time.temporal.ChronoUnit;
 @Table(name = "tasks", indexes = {
         @Index(name = "idx_task_status", columnList = "status"),
         @Index(name = "idx_task_created_at", columnList = "created_at"),
-        @Index(name = "idx_task_deadline", columnList = "deadline")
+        @Index(name = "idx_task_deadline", columnList = "deadline"),
+        // Tenant-scoped reads: each tenant's rows by id, status, creation time and deadline
+        @Index(name = "idx_task_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_task_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_task_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_task_user_deadline", columnList = "user_id, deadline")
 })
 public class Task {
     @Id
@@ -57,6 +64,12 @@ public class Task {
     @Column(name = "attachment_filename")
     private String attachmentFilename;
 
+    // Bumped on every write; served as the ETag and checked against If-Match
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -68,25 +81,46 @@ public class Task {
         updatedAt = LocalDateTime.now();
     }
 
+    // A detached copy of every persistent property
+    public Task copy() {
+        Task copy = new Task();
+        copy.setId(id);
+        copy.setTitle(title);
+        copy.setDescription(description);
+        copy.setStatus(status);
+        copy.setCreatedAt(createdAt);
+        copy.setUpdatedAt(updatedAt);
+        copy.setDeadline(deadline);
+        copy.setPriority(priority);
+        copy.setUserId(userId);
+        copy.setAssignedTo(assignedTo);
+        copy.setEstimatedHours(estimatedHours);
+        copy.setActualHours(actualHours);
+        copy.setAttachmentUrl(attachmentUrl);
+        copy.setAttachmentFilename(attachmentFilename);
+        copy.setVersion(version);
+        return copy;
+    }
+
+    // Computed against the request's clock, so every task in a response agrees on "now"
     public Long getDaysUntilDeadline() {
         if (deadline == null) {
             return null;
         }
-        LocalDateTime now = LocalDateTime.now();
-        return ChronoUnit.DAYS.between(now, deadline);
+        return ChronoUnit.DAYS.between(RequestClock.now(), deadline);
     }
 
     public boolean isOverdue() {
         if (deadline == null) {
             return false;
         }
-        return LocalDateTime.now().isAfter(deadline);
+        return RequestClock.now().isAfter(deadline);
     }
 
     public Long getDaysOverdue() {
         if (!isOverdue()) {
             return 0L;
         }
-        return ChronoUnit.DAYS.between(deadline, LocalDateTime.now());
+        return ChronoUnit.DAYS.between(deadline, RequestClock.now());
     }
 }
\ No newline at end of file
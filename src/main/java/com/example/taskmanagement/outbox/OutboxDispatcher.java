@@ -0,0 +1,152 @@
+package com.example.taskmanagement.outbox;
+
+import com.example.taskmanagement.repository.OutboxJdbcDao;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains the outbox in id order to every configured sink on a dedicated thread.
+ *
+ * <p>A batch is deleted only after all sinks accepted it. When a sink fails, the batch is kept,
+ * its attempt count is raised and draining pauses with exponential backoff, so messages stay
+ * in order and a slow or unavailable sink only grows the table instead of slowing writers.
+ * Retries skip the sinks that already accepted a message, unless the process restarts.
+ * Run a single dispatcher per database; several would deliver the same rows twice.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.outbox.enabled", havingValue = "true")
+public class OutboxDispatcher implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxJdbcDao outboxJdbcDao;
+    private final List<OutboxSink> sinks;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long maxBackoffMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("outbox-dispatcher").daemon().unstarted(runnable));
+
+    private Counter delivered;
+    private Counter failures;
+    private int consecutiveFailures;
+    // Ids each sink accepted from batches not yet deleted; only touched by the dispatcher thread
+    private final Map<String, Set<Long>> accepted = new HashMap<>();
+
+    public OutboxDispatcher(OutboxJdbcDao outboxJdbcDao, List<OutboxSink> sinks,
+                            @Value("${app.tasks.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.tasks.outbox.poll-interval-ms:500}") long pollIntervalMillis,
+                            @Value("${app.tasks.outbox.max-backoff:60s}") Duration maxBackoff) {
+        this.outboxJdbcDao = outboxJdbcDao;
+        this.sinks = sinks;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxBackoffMillis = maxBackoff.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (sinks.isEmpty()) {
+            logger.warn("Outbox is enabled but no sink is configured; messages will accumulate");
+            return;
+        }
+        logger.info("Outbox dispatcher started with sinks {}", sinks.stream().map(OutboxSink::getName).toList());
+        executor.schedule(this::run, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        delivered = Counter.builder("tasks.outbox.delivered")
+                .description("Outbox messages delivered to every sink")
+                .register(registry);
+        failures = Counter.builder("tasks.outbox.failures")
+                .description("Outbox batches that a sink rejected")
+                .register(registry);
+        Gauge.builder("tasks.outbox.pending", outboxJdbcDao, OutboxJdbcDao::countPending)
+                .description("Outbox messages not yet delivered")
+                .register(registry);
+    }
+
+    private void run() {
+        long delay = pollIntervalMillis;
+        try {
+            // Keep draining while full batches come back
+            int drained;
+            do {
+                drained = drainBatch();
+            } while (drained == batchSize);
+            consecutiveFailures = 0;
+        } catch (Exception e) {
+            consecutiveFailures++;
+            delay = Math.min(maxBackoffMillis, pollIntervalMillis << Math.min(consecutiveFailures, 16));
+            logger.warn("Outbox delivery failed ({} in a row), retrying in {} ms: {}",
+                    consecutiveFailures, delay, e.getMessage());
+        } finally {
+            if (!executor.isShutdown()) {
+                executor.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private int drainBatch() throws Exception {
+        List<OutboxMessage> batch = outboxJdbcDao.findBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = batch.stream().map(OutboxMessage::getId).toList();
+        for (OutboxSink sink : sinks) {
+            Set<Long> acceptedBySink = accepted.computeIfAbsent(sink.getName(), name -> new HashSet<>());
+            List<OutboxMessage> pending = batch.stream()
+                    .filter(message -> !acceptedBySink.contains(message.getId()))
+                    .toList();
+            if (pending.isEmpty()) {
+                continue;
+            }
+            try {
+                sink.deliver(pending);
+                pending.forEach(message -> acceptedBySink.add(message.getId()));
+            } catch (Exception e) {
+                if (failures != null) {
+                    failures.increment();
+                }
+                String error = sink.getName() + ": " + e.getMessage();
+                outboxJdbcDao.recordFailure(ids, error.length() > MAX_ERROR_LENGTH
+                        ? error.substring(0, MAX_ERROR_LENGTH) : error);
+                throw e;
+            }
+        }
+        outboxJdbcDao.deleteAll(ids);
+        accepted.values().forEach(acceptedBySink -> ids.forEach(acceptedBySink::remove));
+        if (delivered != null) {
+            delivered.increment(batch.size());
+        }
+        logger.debug("Delivered {} outbox messages", batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.taskmanagement.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox row as handed to the sinks. {@code id} increases in commit order per task and is
+ * the idempotency key for consumers, since a message may be delivered more than once.
+ */
+@Data
+@AllArgsConstructor
+public class OutboxMessage {
+    private long id;
+    private long taskId;
+    private String type;
+    private LocalDateTime createdAt;
+    private int attempts;
+
+    @JsonRawValue
+    private String event;
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanagement.outbox;
+
+import java.util.List;
+
+/**
+ * A destination for outbox messages. Delivery is at-least-once: a batch is retried in full
+ * when {@link #deliver} throws, including after a partial delivery, so sinks and their
+ * consumers must tolerate duplicates.
+ */
+public interface OutboxSink {
+
+    String getName();
+
+    void deliver(List<OutboxMessage> batch) throws Exception;
+}
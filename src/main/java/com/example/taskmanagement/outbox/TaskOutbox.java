@@ -0,0 +1,48 @@
+package com.example.taskmanagement.outbox;
+
+import com.example.taskmanagement.events.TaskChangeEvent;
+import com.example.taskmanagement.repository.OutboxJdbcDao;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records task changes in the outbox table. Must be called inside the transaction making the
+ * change, so the message commits or rolls back together with it; delivery happens later on the
+ * dispatcher thread, off the request path.
+ */
+@Component
+public class TaskOutbox {
+
+    private final OutboxJdbcDao outboxJdbcDao;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    public TaskOutbox(OutboxJdbcDao outboxJdbcDao, ObjectMapper objectMapper,
+                      @Value("${app.tasks.outbox.enabled:false}") boolean enabled) {
+        this.outboxJdbcDao = outboxJdbcDao;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public void append(List<TaskChangeEvent> events) {
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (TaskChangeEvent event : events) {
+            try {
+                rows.add(new Object[]{event.getTaskId(), event.getType().name(), objectMapper.writeValueAsString(event)});
+            } catch (JsonProcessingException e) {
+                // Fail the write rather than lose the message
+                throw new IllegalStateException("Could not serialize change event for task " + event.getTaskId(), e);
+            }
+        }
+        outboxJdbcDao.insertAll(rows, LocalDateTime.now());
+    }
+}
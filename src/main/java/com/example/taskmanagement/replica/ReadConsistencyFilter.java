@@ -0,0 +1,93 @@
+package com.example.taskmanagement.replica;
+
+import com.example.taskmanagement.tenant.TenantContext;
+import com.example.taskmanagement.tenant.TenantFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Binds each API request to its client session for {@link ReadYourWrites}. The session is named by
+ * the session header ({@code X-Session-Id} by default) within the tenant, and otherwise is the
+ * tenant. The consistency header ({@code X-Read-Consistency}) selects {@code eventual} or
+ * {@code read-your-writes} reads; without it {@code app.datasource.replicas.default-consistency} applies.
+ */
+@Component
+@Order(TenantFilter.ORDER + 1)
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    private static final String EVENTUAL = "eventual";
+    private static final String READ_YOUR_WRITES = "read-your-writes";
+
+    private final ReadYourWrites readYourWrites;
+    private final ObjectMapper objectMapper;
+    private final String consistencyHeader;
+    private final String sessionHeader;
+    private final String defaultConsistency;
+
+    public ReadConsistencyFilter(ReadYourWrites readYourWrites, ObjectMapper objectMapper,
+                                 @Value("${app.datasource.replicas.consistency-header:X-Read-Consistency}")
+                                 String consistencyHeader,
+                                 @Value("${app.datasource.replicas.session-header:X-Session-Id}") String sessionHeader,
+                                 @Value("${app.datasource.replicas.default-consistency:eventual}")
+                                 String defaultConsistency) {
+        this.readYourWrites = readYourWrites;
+        this.objectMapper = objectMapper;
+        this.consistencyHeader = consistencyHeader;
+        this.sessionHeader = sessionHeader;
+        this.defaultConsistency = defaultConsistency;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(consistencyHeader);
+        String consistency = (StringUtils.hasText(header) ? header.trim() : defaultConsistency)
+                .toLowerCase(Locale.ROOT);
+        if (!EVENTUAL.equals(consistency) && !READ_YOUR_WRITES.equals(consistency)) {
+            reject(response, consistencyHeader + " must be " + EVENTUAL + " or " + READ_YOUR_WRITES);
+            return;
+        }
+        String session = request.getHeader(sessionHeader);
+        long userId = TenantContext.currentUserId();
+        String sessionKey = StringUtils.hasText(session) ? userId + ":" + session.trim() : String.valueOf(userId);
+
+        readYourWrites.begin(sessionKey, READ_YOUR_WRITES.equals(consistency));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("error", "Invalid read consistency");
+        error.put("message", message);
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
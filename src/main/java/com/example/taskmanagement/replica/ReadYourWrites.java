@@ -0,0 +1,72 @@
+package com.example.taskmanagement.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Tracks which client sessions wrote recently, so their reads can be kept on the primary until
+ * the replicas have caught up. A request always reads its own writes; reading them on later
+ * requests is opted into per session ({@code read-your-writes} consistency) and lasts for the
+ * configured window after each commit. Sessions are tracked per instance.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+
+    // Sessions that committed a write within the window
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window, long maxSessions) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxSessions)
+                .build();
+    }
+
+    // Binds the request's session to the current thread
+    public void begin(String sessionKey, boolean readYourWrites) {
+        boolean recentWrite = readYourWrites && recentWriters.getIfPresent(sessionKey) != null;
+        SESSION.set(new Session(sessionKey, recentWrite));
+    }
+
+    public static void end() {
+        SESSION.remove();
+    }
+
+    // Whether reads on this thread must go to the primary to see the session's writes
+    public static boolean requiresPrimary() {
+        Session session = SESSION.get();
+        return session != null && (session.wrote || session.recentWrite);
+    }
+
+    // Called when a read-write transaction takes a primary connection; takes effect once it commits
+    void recordWrite() {
+        Session session = SESSION.get();
+        if (session == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // Recorded for every session, so switching to read-your-writes covers earlier writes
+                session.wrote = true;
+                recentWriters.put(session.key, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static final class Session {
+        private final String key;
+        private final boolean recentWrite;
+        private boolean wrote;
+
+        private Session(String key, boolean recentWrite) {
+            this.key = key;
+            this.recentWrite = recentWrite;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.taskmanagement.replica;
+
+import com.example.taskmanagement.config.GuardedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with one that routes read-only transactions to the
+ * replicas in {@code app.datasource.replicas.urls} when {@code app.datasource.replicas.enabled}
+ * is set. Every pool takes the {@code spring.datasource.hikari.*} settings; replica pools can
+ * override them under {@code app.datasource.replicas.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${app.datasource.replicas.read-your-writes-window:5s}") Duration window,
+            @Value("${app.datasource.replicas.max-sessions:100000}") long maxSessions) {
+        return new ReadYourWrites(window, maxSessions);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaRouter replicaRouter(DataSourceProperties properties, Environment environment,
+                                       ReadYourWrites readYourWrites, ObjectProvider<MeterRegistry> meterRegistry,
+                                       @Value("${app.datasource.replicas.health-check-interval-ms:5000}")
+                                       long healthCheckIntervalMillis) {
+        Binder binder = Binder.get(environment);
+        List<String> urls = binder.bind("app.datasource.replicas.urls", Bindable.listOf(String.class))
+                .orElse(List.of());
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("app.datasource.replicas.enabled is set but no replica URLs are given");
+        }
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            // One connection held across the request would carry writes to a replica after a read
+            throw new IllegalStateException("Read replicas require spring.jpa.open-in-view=false");
+        }
+
+        HikariDataSource primary = pool(binder, meterRegistry, "primary", properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword());
+        primary.setDriverClassName(properties.determineDriverClassName());
+        String username = environment.getProperty("app.datasource.replicas.username",
+                properties.determineUsername());
+        String password = environment.getProperty("app.datasource.replicas.password",
+                properties.determinePassword());
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = pool(binder, meterRegistry, "replica-" + (i + 1), urls.get(i).trim(),
+                    username, password);
+            binder.bind("app.datasource.replicas.hikari", Bindable.ofInstance(replica));
+            // Start even while the replica is unreachable; the health check brings it in later
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(replica);
+        }
+        logger.info("Configured {} read replicas", replicas.size());
+        return new ReplicaRouter(primary, replicas, readYourWrites, healthCheckIntervalMillis);
+    }
+
+    @Bean
+    public DataSource dataSource(ReplicaRouter replicaRouter, Environment environment) {
+        DataSource routing = new ReplicaRoutingDataSource(replicaRouter);
+        if (environment.getProperty("app.datasource.guard.enabled", Boolean.class, false)) {
+            // The lazy proxy hands out connections without touching a pool, so the guard goes beneath it
+            routing = new GuardedDataSource(routing,
+                    environment.getProperty("app.datasource.guard.max-waiting", Integer.class, 200));
+        }
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(Binder binder, ObjectProvider<MeterRegistry> meterRegistry, String name,
+                                         String url, String username, String password) {
+        HikariDataSource pool = new HikariDataSource();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(username);
+        pool.setPassword(password);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(
+                new MicrometerMetricsTrackerFactory(registry)));
+        return pool;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.taskmanagement.replica;
+
+import com.example.taskmanagement.config.PoolMetricsConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Chooses the pool for each physical connection. Read-only transactions go to the replicas in
+ * round-robin order, skipping any marked down; everything else, reads that must see the session's
+ * own writes and reads with no replica available go to the primary.
+ *
+ * <p>A replica is marked down as soon as it fails to hand out a connection and the read moves on
+ * to the next one. A health check on a dedicated thread validates every replica periodically and
+ * brings recovered ones back.
+ */
+public class ReplicaRouter implements MeterBinder, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRouter.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWrites readYourWrites;
+    private final long healthCheckIntervalMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LongAdder primaryReads = new LongAdder();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("replica-health").daemon().unstarted(runnable));
+
+    public ReplicaRouter(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                         ReadYourWrites readYourWrites, long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.readYourWrites = readYourWrites;
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+    }
+
+    public void start() {
+        logger.info("Routing read-only transactions to replicas {}",
+                replicas.stream().map(replica -> replica.pool.getPoolName()).toList());
+        executor.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+        primary.close();
+    }
+
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.recordWrite();
+            }
+            return primary.getConnection();
+        }
+        if (!ReadYourWrites.requiresPrimary()) {
+            Connection connection = replicaConnection();
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryReads.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder("tasks.datasource.reads", primaryReads, LongAdder::sum)
+                .description("Read-only transactions served by each pool")
+                .tag("target", primary.getPoolName())
+                .register(registry);
+        PoolMetricsConfig.bind(registry, primary);
+        for (Replica replica : replicas) {
+            FunctionCounter.builder("tasks.datasource.reads", replica.reads, LongAdder::sum)
+                    .description("Read-only transactions served by each pool")
+                    .tag("target", replica.pool.getPoolName())
+                    .register(registry);
+            Gauge.builder("tasks.datasource.replica.up", replica, r -> r.up ? 1 : 0)
+                    .description("Whether the replica is taking reads")
+                    .tag("replica", replica.pool.getPoolName())
+                    .register(registry);
+            PoolMetricsConfig.bind(registry, replica.pool);
+        }
+    }
+
+    // Tries each replica that is up once, starting at the next in turn; null when none answers
+    private Connection replicaConnection() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.up) {
+                continue;
+            }
+            try {
+                Connection connection = replica.pool.getConnection();
+                replica.reads.increment();
+                return connection;
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    markUp(replica);
+                } else {
+                    markDown(replica, "connection validation failed");
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.up) {
+            replica.up = true;
+            logger.info("Replica {} is back up and taking reads", replica.pool.getPoolName());
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.up) {
+            replica.up = false;
+            logger.warn("Replica {} is down, reading elsewhere until it recovers: {}",
+                    replica.pool.getPoolName(), reason);
+        }
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        private final LongAdder reads = new LongAdder();
+        private volatile boolean up = true;
+
+        private Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static com.example.taskmanagement.repository.TaskJdbcDao.escapeLike;
+import static com.example.taskmanagement.repository.TaskJdbcDao.placeholders;
+import static com.example.taskmanagement.repository.TaskJdbcDao.setNullableDouble;
+import static com.example.taskmanagement.repository.TaskJdbcDao.toTimestamp;
+
+/**
+ * Hand-written {@link TaskStore} over {@link JdbcTemplate}, bypassing the persistence context.
+ * Every statement is a constant with an explicit column list, so the driver's prepared-statement
+ * cache can reuse it across calls, and rows are mapped by column index with {@link TaskRowMapper}.
+ * It writes the same columns and bumps {@code version} the same way the entity mapping does.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.store", havingValue = "jdbc")
+public class JdbcTaskStore implements TaskStore {
+
+    private static final String SELECT = "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks ";
+
+    private static final String FIND_BY_ID = SELECT + "WHERE id = ? AND user_id = ?";
+    private static final String FIND_BY_USER = SELECT + "WHERE user_id = ? ORDER BY id";
+    private static final String FIND_BY_STATUS = SELECT + "WHERE user_id = ? AND status = ? ORDER BY id";
+    private static final String FIND_BY_TITLE = SELECT + "WHERE user_id = ? AND LOWER(title) LIKE ? ESCAPE '!' " +
+            "ORDER BY id";
+    private static final String FIRST_PAGE_BY_ID = SELECT + "WHERE user_id = ? ORDER BY id LIMIT ?";
+    private static final String PAGE_AFTER_ID = SELECT + "WHERE user_id = ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String FIRST_PAGE_BY_CREATED_AT = SELECT + "WHERE user_id = ? " +
+            "ORDER BY created_at, id LIMIT ?";
+    private static final String PAGE_AFTER_CREATED_AT = SELECT + "WHERE user_id = ? " +
+            "AND (created_at > ? OR (created_at = ? AND id > ?)) ORDER BY created_at, id LIMIT ?";
+    private static final String COUNT_BY_USER = "SELECT COUNT(*) FROM tasks WHERE user_id = ?";
+    private static final String INSERT = "INSERT INTO tasks (title, description, status, priority, deadline, " +
+            "created_at, updated_at, user_id, assigned_to, estimated_hours, actual_hours, attachment_url, " +
+            "attachment_filename, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE = "UPDATE tasks SET title=?, description=?, status=?, priority=?, " +
+            "deadline=?, assigned_to=?, estimated_hours=?, actual_hours=?, attachment_url=?, attachment_filename=?, " +
+            "updated_at=?, version=version+1 WHERE id=? AND user_id=? AND version=?";
+    private static final String DELETE = "DELETE FROM tasks WHERE id = ? AND user_id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<Task> rowMapper = new TaskRowMapper();
+
+    public JdbcTaskStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Task> findById(long id, long userId) {
+        List<Task> tasks = jdbcTemplate.query(FIND_BY_ID, rowMapper, id, userId);
+        return tasks.isEmpty() ? Optional.empty() : Optional.of(tasks.get(0));
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return jdbcTemplate.query(SELECT + "WHERE id IN (" + placeholders(ids.size()) + ")", rowMapper,
+                ids.toArray());
+    }
+
+    @Override
+    public List<Task> findByUser(long userId) {
+        return jdbcTemplate.query(FIND_BY_USER, rowMapper, userId);
+    }
+
+    @Override
+    public List<Task> findByUserAndStatus(long userId, TaskStatus status) {
+        return jdbcTemplate.query(FIND_BY_STATUS, rowMapper, userId, status.name());
+    }
+
+    @Override
+    public List<Task> findByUserAndTitle(long userId, String keyword) {
+        return jdbcTemplate.query(FIND_BY_TITLE, rowMapper, userId,
+                "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%");
+    }
+
+    @Override
+    public List<Task> findPageById(long userId, Long afterId, int limit) {
+        return afterId == null
+                ? jdbcTemplate.query(FIRST_PAGE_BY_ID, rowMapper, userId, limit)
+                : jdbcTemplate.query(PAGE_AFTER_ID, rowMapper, userId, afterId, limit);
+    }
+
+    @Override
+    public List<Task> findPageByCreatedAt(long userId, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        return afterCreatedAt == null
+                ? jdbcTemplate.query(FIRST_PAGE_BY_CREATED_AT, rowMapper, userId, limit)
+                : jdbcTemplate.query(PAGE_AFTER_CREATED_AT, rowMapper, userId, toTimestamp(afterCreatedAt),
+                        toTimestamp(afterCreatedAt), afterId, limit);
+    }
+
+    @Override
+    public long countByUser(long userId) {
+        Long count = jdbcTemplate.queryForObject(COUNT_BY_USER, Long.class, userId);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public Task insert(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, task.getTitle());
+            ps.setString(2, task.getDescription());
+            ps.setString(3, task.getStatus().name());
+            ps.setInt(4, task.getPriority());
+            ps.setTimestamp(5, toTimestamp(task.getDeadline()));
+            ps.setTimestamp(6, toTimestamp(task.getCreatedAt()));
+            ps.setTimestamp(7, toTimestamp(task.getUpdatedAt()));
+            ps.setLong(8, task.getUserId());
+            ps.setString(9, task.getAssignedTo());
+            setNullableDouble(ps, 10, task.getEstimatedHours());
+            setNullableDouble(ps, 11, task.getActualHours());
+            ps.setString(12, task.getAttachmentUrl());
+            ps.setString(13, task.getAttachmentFilename());
+            return ps;
+        }, keyHolder);
+        task.setId(((Number) keyHolder.getKeyList().get(0).values().iterator().next()).longValue());
+        task.setVersion(0L);
+        return task;
+    }
+
+    @Override
+    public Task update(Task task) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(UPDATE, ps -> {
+            ps.setString(1, task.getTitle());
+            ps.setString(2, task.getDescription());
+            ps.setString(3, task.getStatus().name());
+            ps.setInt(4, task.getPriority());
+            ps.setTimestamp(5, toTimestamp(task.getDeadline()));
+            ps.setString(6, task.getAssignedTo());
+            setNullableDouble(ps, 7, task.getEstimatedHours());
+            setNullableDouble(ps, 8, task.getActualHours());
+            ps.setString(9, task.getAttachmentUrl());
+            ps.setString(10, task.getAttachmentFilename());
+            ps.setTimestamp(11, toTimestamp(now));
+            ps.setLong(12, task.getId());
+            ps.setLong(13, task.getUserId());
+            ps.setLong(14, task.getVersion());
+        });
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Task " + task.getId() + " was modified or deleted " +
+                    "since version " + task.getVersion() + " was read");
+        }
+        task.setUpdatedAt(now);
+        task.setVersion(task.getVersion() + 1);
+        return task;
+    }
+
+    @Override
+    public void delete(Task task) {
+        int deleted = jdbcTemplate.update(DELETE, task.getId(), task.getUserId(), task.getVersion());
+        if (deleted == 0) {
+            throw new OptimisticLockingFailureException("Task " + task.getId() + " was modified or deleted " +
+                    "since version " + task.getVersion() + " was read");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link TaskStore} backed by the Spring Data {@link TaskRepository}.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaTaskStore implements TaskStore {
+
+    private final TaskRepository taskRepository;
+
+    public JpaTaskStore(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public Optional<Task> findById(long id, long userId) {
+        return taskRepository.findByIdAndUserId(id, userId);
+    }
+
+    @Override
+    public List<Task> findAllById(Collection<Long> ids) {
+        return taskRepository.findAllById(ids);
+    }
+
+    @Override
+    public List<Task> findByUser(long userId) {
+        return taskRepository.findByUserId(userId);
+    }
+
+    @Override
+    public List<Task> findByUserAndStatus(long userId, TaskStatus status) {
+        return taskRepository.findByUserIdAndStatus(userId, status);
+    }
+
+    @Override
+    public List<Task> findByUserAndTitle(long userId, String keyword) {
+        return taskRepository.findByUserIdAndTitleContainingIgnoreCase(userId, keyword);
+    }
+
+    @Override
+    public List<Task> findPageById(long userId, Long afterId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return afterId == null
+                ? taskRepository.findFirstPageById(userId, pageable)
+                : taskRepository.findPageAfterId(userId, afterId, pageable);
+    }
+
+    @Override
+    public List<Task> findPageByCreatedAt(long userId, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return afterCreatedAt == null
+                ? taskRepository.findFirstPageByCreatedAt(userId, pageable)
+                : taskRepository.findPageAfterCreatedAt(userId, afterCreatedAt, afterId, pageable);
+    }
+
+    @Override
+    public long countByUser(long userId) {
+        return taskRepository.countByUserId(userId);
+    }
+
+    @Override
+    public Task insert(Task task) {
+        return taskRepository.save(task);
+    }
+
+    @Override
+    public Task update(Task task) {
+        // Flush now so a concurrent write surfaces here as a version conflict rather than at commit
+        return taskRepository.saveAndFlush(task);
+    }
+
+    @Override
+    public void delete(Task task) {
+        taskRepository.delete(task);
+    }
+}
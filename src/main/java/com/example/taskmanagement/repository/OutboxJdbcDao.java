@@ -0,0 +1,83 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.outbox.OutboxMessage;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC access to the {@code task_outbox} table. Inserts join the caller's transaction.
+ */
+@Repository
+public class OutboxJdbcDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxJdbcDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Appends one row per event as a single JDBC batch; each entry is {taskId, type, payload}
+    public void insertAll(List<Object[]> rows, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO task_outbox (task_id, event_type, payload, created_at, attempts) VALUES (?, ?, ?, ?, 0)",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                        Object[] row = rows.get(i);
+                        ps.setLong(1, (Long) row[0]);
+                        ps.setString(2, (String) row[1]);
+                        ps.setString(3, (String) row[2]);
+                        ps.setTimestamp(4, timestamp);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+    }
+
+    // Oldest pending messages first
+    public List<OutboxMessage> findBatch(int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, task_id, event_type, created_at, attempts, payload FROM task_outbox ORDER BY id LIMIT ?",
+                (rs, rowNum) -> new OutboxMessage(rs.getLong("id"), rs.getLong("task_id"), rs.getString("event_type"),
+                        rs.getTimestamp("created_at").toLocalDateTime(), rs.getInt("attempts"),
+                        rs.getString("payload")),
+                limit);
+    }
+
+    // By id rather than range: a row with a lower id may commit after a higher one was read
+    public void deleteAll(List<Long> ids) {
+        jdbcTemplate.update("DELETE FROM task_outbox WHERE id IN (" + placeholders(ids.size()) + ")", ids.toArray());
+    }
+
+    public void recordFailure(List<Long> ids, String error) {
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = error;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update("UPDATE task_outbox SET attempts = attempts + 1, last_error = ? WHERE id IN ("
+                + placeholders(ids.size()) + ")", args);
+    }
+
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_outbox", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
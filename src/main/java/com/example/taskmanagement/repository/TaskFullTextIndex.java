@@ -0,0 +1,77 @@
+package com.example.taskmanagement.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+/**
+ * Tracks whether the MySQL FULLTEXT index over (title, description) is available. The index is
+ * MySQL-only, so it is created by the vendor migration in {@code db/vendor/mysql} rather than the
+ * portable ones; without it (other databases, partitioned tables) text search falls back to LIKE
+ * scans.
+ */
+@Component
+public class TaskFullTextIndex {
+
+    public static final String INDEX_NAME = "ft_task_title_description";
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskFullTextIndex.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int minTokenSize;
+    private volatile boolean available;
+
+    public TaskFullTextIndex(JdbcTemplate jdbcTemplate,
+                             @Value("${app.tasks.search.fulltext.enabled:true}") boolean enabled,
+                             @Value("${app.tasks.search.fulltext.min-token-size:3}") int minTokenSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.minTokenSize = minTokenSize;
+    }
+
+    // Runs after Flyway has migrated the tasks table
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            logger.info("Full-text search disabled, using LIKE fallback");
+            return;
+        }
+        try {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            if (product == null || !product.toLowerCase(Locale.ROOT).contains("mysql")) {
+                logger.info("Full-text search needs MySQL, found {}; using LIKE fallback", product);
+                return;
+            }
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                            "WHERE table_schema = DATABASE() AND table_name = 'tasks' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            if (existing == null || existing == 0) {
+                logger.warn("Full-text index {} is missing; using LIKE fallback", INDEX_NAME);
+                return;
+            }
+            available = true;
+            logger.info("Full-text search enabled using index {}", INDEX_NAME);
+        } catch (Exception e) {
+            logger.error("Could not enable full-text search, using LIKE fallback: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    // Shortest term the index stores (innodb_ft_min_token_size); shorter terms need a LIKE predicate
+    public int getMinTokenSize() {
+        return minTokenSize;
+    }
+}
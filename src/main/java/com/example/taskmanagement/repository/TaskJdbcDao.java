@@ -1,151 +1,496 @@
 package com.example.taskmanagement.repository;
 
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskFields;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
 import com.example.taskmanagement.model.Task;
 import com.example.taskmanagement.model.TaskStatus;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.dao.DataAccessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 import org.springframework.lang.NonNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.Collections;
+import java.util.function.Consumer;
 
 @Repository
 public class TaskJdbcDao {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskJdbcDao.class);
+
+    // Sort key ranking text-search matches, selected as a computed column
+    public static final String RELEVANCE = "relevance";
     
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private TaskFullTextIndex fullTextIndex;
+
+    // Rows fetched per round-trip when streaming; with the useCursorFetch driver property set in
+    // application.properties, MySQL reads through a server-side cursor in batches of this size
+    // instead of buffering the whole result
+    @Value("${app.tasks.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    private static final String STREAM_SQL =
+            "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE user_id = ? ORDER BY id";
+
     // Maps a SQL row to a Task object
-    private final RowMapper<Task> taskRowMapper = new RowMapper<Task>() {
-        @Override
-        public Task mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
-            try {
-                Task task = new Task();
-                task.setId(rs.getLong("id"));
-                task.setTitle(rs.getString("title"));
-                task.setDescription(rs.getString("description"));
-                task.setStatus(TaskStatus.valueOf(rs.getString("status")));
-                task.setPriority(rs.getInt("priority"));
-                task.setDeadline(
-                        rs.getTimestamp("deadline") != null ? rs.getTimestamp("deadline").toLocalDateTime() : null);
-                task.setCreatedAt(rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null);
-                task.setUpdatedAt(rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").toLocalDateTime() : null);
-                return task;
-            } catch (SQLException e) {
-                logger.error("Error mapping ResultSet to Task object: {}", e.getMessage());
-                throw e;
-            } catch (IllegalArgumentException e) {
-                logger.error("Error converting task status: {}", e.getMessage());
-                throw new SQLException("Invalid task status in database", e);
+    private final RowMapper<Task> taskRowMapper = new TaskRowMapper();
+
+    // Stream a tenant's tasks through a forward-only cursor without materializing the result set
+    public void streamTasks(long userId, Consumer<Task> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(STREAM_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            ps.setLong(1, userId);
+            return ps;
+        }, rs -> {
+            consumer.accept(taskRowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    // Maps whichever task columns a projected query selected; unselected properties keep their defaults
+    private final RowMapper<Task> projectedRowMapper = (rs, rowNum) -> {
+        Task task = new Task();
+        ResultSetMetaData meta = rs.getMetaData();
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            switch (meta.getColumnLabel(i).toLowerCase(Locale.ROOT)) {
+                case "id" -> task.setId(rs.getLong(i));
+                case "title" -> task.setTitle(rs.getString(i));
+                case "description" -> task.setDescription(rs.getString(i));
+                case "status" -> task.setStatus(TaskStatus.valueOf(rs.getString(i)));
+                case "created_at" -> task.setCreatedAt(toLocalDateTime(rs.getTimestamp(i)));
+                case "updated_at" -> task.setUpdatedAt(toLocalDateTime(rs.getTimestamp(i)));
+                case "deadline" -> task.setDeadline(toLocalDateTime(rs.getTimestamp(i)));
+                case "priority" -> task.setPriority(rs.getInt(i));
+                case "user_id" -> task.setUserId(rs.getLong(i));
+                case "assigned_to" -> task.setAssignedTo(rs.getString(i));
+                case "estimated_hours" -> task.setEstimatedHours(rs.getObject(i) != null ? rs.getDouble(i) : null);
+                case "actual_hours" -> task.setActualHours(rs.getObject(i) != null ? rs.getDouble(i) : null);
+                case "attachment_url" -> task.setAttachmentUrl(rs.getString(i));
+                case "attachment_filename" -> task.setAttachmentFilename(rs.getString(i));
+                case "version" -> task.setVersion(rs.getLong(i));
+                default -> {
+                }
             }
         }
+        return task;
     };
 
-    // Get all tasks
-    public List<Task> findAllTasks() {
-        try {
-            return jdbcTemplate.query("SELECT * FROM tasks", taskRowMapper);
-        } catch (DataAccessException e) {
-            logger.error("Error fetching all tasks: {}", e.getMessage());
-            return Collections.emptyList();
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching all tasks: {}", e.getMessage());
-            return Collections.emptyList();
-        }
-    }
-
-    // Get a task by ID
-    public Task findTaskById(Long id) {
-        try {
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID provided: {}", id);
-                return null;
+    /**
+     * Runs a search as a single query: every filter becomes a WHERE predicate, ordering and
+     * paging are done by the database and only {@code columns} are selected.
+     * Paging uses the keyset {@code after} when given, otherwise {@code offset}.
+     */
+    public List<Task> searchTasks(TaskSearchCriteria criteria, Set<String> columns, TaskCursor after, int limit) {
+        boolean byRelevance = RELEVANCE.equals(criteria.getSort());
+        String sortColumn = byRelevance ? RELEVANCE : TaskFields.COLUMNS.get(criteria.getSort());
+        String direction = criteria.isDescending() ? "DESC" : "ASC";
+        String comparison = criteria.isDescending() ? "<" : ">";
+        StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", columns));
+        List<Object> args = new ArrayList<>();
+        StringBuilder where = new StringBuilder(" FROM tasks WHERE 1=1");
+        List<Object> whereArgs = new ArrayList<>();
+
+        if (criteria.getQuery() != null) {
+            appendTextSearch(criteria.getQuery(), byRelevance, sql, args, where, whereArgs);
+        }
+        sql.append(where);
+        args.addAll(whereArgs);
+
+        if (criteria.getTitle() != null) {
+            sql.append(" AND LOWER(title) LIKE ? ESCAPE '!'");
+            args.add("%" + escapeLike(criteria.getTitle().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            sql.append(" AND status IN (").append(placeholders(criteria.getStatuses().size())).append(")");
+            criteria.getStatuses().forEach(status -> args.add(status.name()));
+        }
+        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()) {
+            sql.append(" AND priority IN (").append(placeholders(criteria.getPriorities().size())).append(")");
+            args.addAll(criteria.getPriorities());
+        }
+        if (criteria.getDeadlineFrom() != null) {
+            sql.append(" AND deadline >= ?");
+            args.add(toTimestamp(criteria.getDeadlineFrom()));
+        }
+        if (criteria.getDeadlineTo() != null) {
+            sql.append(" AND deadline < ?");
+            args.add(toTimestamp(criteria.getDeadlineTo()));
+        }
+        if (criteria.getAssignedTo() != null) {
+            sql.append(" AND assigned_to = ?");
+            args.add(criteria.getAssignedTo());
+        }
+        if (criteria.getOverdue() != null) {
+            // Same rule as Task.isOverdue(): the deadline has passed
+            sql.append(criteria.getOverdue() ? " AND deadline < ?" : " AND (deadline IS NULL OR deadline >= ?)");
+            args.add(Timestamp.valueOf(LocalDateTime.now()));
+        }
+        if (criteria.getUserId() != null) {
+            sql.append(" AND user_id = ?");
+            args.add(criteria.getUserId());
+        }
+        if (after != null) {
+            if (after.getCreatedAt() != null) {
+                sql.append(" AND (created_at ").append(comparison).append(" ? OR (created_at = ? AND id ")
+                        .append(comparison).append(" ?))");
+                args.add(toTimestamp(after.getCreatedAt()));
+                args.add(toTimestamp(after.getCreatedAt()));
+            } else {
+                sql.append(" AND id ").append(comparison).append(" ?");
             }
-            return jdbcTemplate.queryForObject("SELECT * FROM tasks WHERE id = ?", taskRowMapper, id);
-        } catch (EmptyResultDataAccessException e) {
-            logger.warn("Task not found with ID: {}", id);
-            return null;
-        } catch (DataAccessException e) {
-            logger.error("Database error fetching task with ID {}: {}", id, e.getMessage());
-            return null;
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching task with ID {}: {}", id, e.getMessage());
-            return null;
-        }
-    }
-
-    // Insert a new task
-    public int insertTask(Task task) {
-        try {
-            if (task == null) {
-                logger.warn("Attempted to insert null task");
-                return 0;
+            args.add(after.getId());
+        }
+
+        if (byRelevance) {
+            direction = "DESC";
+        }
+        sql.append(" ORDER BY ").append(sortColumn).append(' ').append(direction);
+        if (byRelevance) {
+            sql.append(", id ASC");
+        } else if (!"id".equals(sortColumn)) {
+            sql.append(", id ").append(direction);
+        }
+        sql.append(" LIMIT ?");
+        args.add(limit);
+        if (after == null && criteria.getOffset() != null && criteria.getOffset() > 0) {
+            sql.append(" OFFSET ?");
+            args.add(criteria.getOffset());
+        }
+        return jdbcTemplate.query(sql.toString(), projectedRowMapper, args.toArray());
+    }
+
+    /**
+     * Adds a text search over title and description. Every term must match, either as a word
+     * prefix through the FULLTEXT index or, for short terms and databases without the index,
+     * as a substring. When ranking, a {@code relevance} column is selected.
+     */
+    private void appendTextSearch(String query, boolean byRelevance, StringBuilder select, List<Object> selectArgs,
+                                  StringBuilder where, List<Object> whereArgs) {
+        List<String> terms = tokenize(query);
+        List<String> indexedTerms = new ArrayList<>();
+        List<String> likeTerms = new ArrayList<>();
+        for (String term : terms) {
+            if (fullTextIndex.isAvailable() && term.length() >= fullTextIndex.getMinTokenSize()) {
+                indexedTerms.add(term);
+            } else {
+                likeTerms.add(term);
             }
-            if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
-                logger.warn("Attempted to insert task with null or empty title");
-                return 0;
+        }
+
+        List<String> scores = new ArrayList<>();
+        if (!indexedTerms.isEmpty()) {
+            StringBuilder booleanQuery = new StringBuilder();
+            for (String term : indexedTerms) {
+                booleanQuery.append(booleanQuery.length() > 0 ? " +" : "+").append(term).append('*');
             }
-            return jdbcTemplate.update(
-                    "INSERT INTO tasks (title, description, status, priority, deadline, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
-                    task.getTitle(), task.getDescription(), task.getStatus().toString(), task.getPriority(),
-                    task.getDeadline(), task.getCreatedAt(), task.getUpdatedAt());
-        } catch (DataAccessException e) {
-            logger.error("Database error inserting task: {}", e.getMessage());
-            return 0;
-        } catch (Exception e) {
-            logger.error("Unexpected error inserting task: {}", e.getMessage());
-            return 0;
-        }
-    }
-
-    // Update an existing task
-    public int updateTask(Task task) {
-        try {
-            if (task == null || task.getId() == null) {
-                logger.warn("Attempted to update null task or task with null ID");
-                return 0;
+            where.append(" AND MATCH(title, description) AGAINST (? IN BOOLEAN MODE)");
+            whereArgs.add(booleanQuery.toString());
+            if (byRelevance) {
+                scores.add("MATCH(title, description) AGAINST (? IN BOOLEAN MODE)");
+                selectArgs.add(booleanQuery.toString());
+            }
+        }
+        for (String term : likeTerms) {
+            String pattern = "%" + escapeLike(term) + "%";
+            where.append(" AND (LOWER(title) LIKE ? ESCAPE '!' OR LOWER(description) LIKE ? ESCAPE '!')");
+            whereArgs.add(pattern);
+            whereArgs.add(pattern);
+            if (byRelevance) {
+                // Title hits rank above description hits
+                scores.add("(CASE WHEN LOWER(title) LIKE ? ESCAPE '!' THEN 2 ELSE 1 END)");
+                selectArgs.add(pattern);
             }
-            if (task.getTitle() == null || task.getTitle().trim().isEmpty()) {
-                logger.warn("Attempted to update task with null or empty title");
-                return 0;
+        }
+        if (byRelevance) {
+            select.append(", ").append(scores.isEmpty() ? "0" : String.join(" + ", scores))
+                    .append(" AS ").append(RELEVANCE);
+        }
+    }
+
+    // Splits a query into lower-case words, dropping punctuation and boolean operators
+    public static List<String> tokenize(String query) {
+        List<String> terms = new ArrayList<>();
+        for (String term : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // Insert tasks as one JDBC batch and copy the generated ids back onto them.
+    // Errors propagate so the caller can roll back the chunk.
+    public void batchInsertTasks(List<Task> tasks) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(
+                "INSERT INTO tasks (title, description, status, priority, deadline, created_at, updated_at, " +
+                        "user_id, assigned_to, estimated_hours, actual_hours, attachment_url, attachment_filename, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                Statement.RETURN_GENERATED_KEYS), new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setString(3, task.getStatus().name());
+                        ps.setInt(4, task.getPriority());
+                        ps.setTimestamp(5, toTimestamp(task.getDeadline()));
+                        ps.setTimestamp(6, toTimestamp(task.getCreatedAt()));
+                        ps.setTimestamp(7, toTimestamp(task.getUpdatedAt()));
+                        ps.setLong(8, task.getUserId());
+                        ps.setString(9, task.getAssignedTo());
+                        setNullableDouble(ps, 10, task.getEstimatedHours());
+                        setNullableDouble(ps, 11, task.getActualHours());
+                        ps.setString(12, task.getAttachmentUrl());
+                        ps.setString(13, task.getAttachmentFilename());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < tasks.size() && i < keys.size(); i++) {
+            Object key = keys.get(i).values().iterator().next();
+            tasks.get(i).setId(((Number) key).longValue());
+            tasks.get(i).setVersion(0L);
+        }
+    }
+
+    // Update the editable columns of each of a tenant's tasks in one JDBC batch, keeping the stored status or
+    // priority where the task has none; returns per-row update counts
+    public int[] batchUpdateTasks(List<Task> tasks, long userId) {
+        return jdbcTemplate.batchUpdate(
+                "UPDATE tasks SET title=?, description=?, status=COALESCE(?, status), " +
+                        "priority=COALESCE(?, priority), deadline=?, assigned_to=?, " +
+                        "estimated_hours=?, actual_hours=?, updated_at=?, version=version+1 WHERE id=? AND user_id=?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setString(3, task.getStatus() != null ? task.getStatus().name() : null);
+                        ps.setObject(4, task.getPriority(), Types.INTEGER);
+                        ps.setTimestamp(5, toTimestamp(task.getDeadline()));
+                        ps.setString(6, task.getAssignedTo());
+                        setNullableDouble(ps, 7, task.getEstimatedHours());
+                        setNullableDouble(ps, 8, task.getActualHours());
+                        ps.setTimestamp(9, toTimestamp(task.getUpdatedAt()));
+                        ps.setLong(10, task.getId());
+                        ps.setLong(11, userId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                });
+    }
+
+    // Write each task's pending state in one JDBC batch, setting the version its clients were given.
+    // Rows already at or past that version are left alone; returns per-row update counts.
+    public int[] batchWriteBehind(List<Task> tasks) {
+        return jdbcTemplate.batchUpdate(
+                "UPDATE tasks SET title=?, description=?, status=?, priority=?, deadline=?, assigned_to=?, " +
+                        "estimated_hours=?, actual_hours=?, updated_at=?, version=? " +
+                        "WHERE id=? AND user_id=? AND version<?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                        Task task = tasks.get(i);
+                        ps.setString(1, task.getTitle());
+                        ps.setString(2, task.getDescription());
+                        ps.setString(3, task.getStatus().name());
+                        ps.setInt(4, task.getPriority());
+                        ps.setTimestamp(5, toTimestamp(task.getDeadline()));
+                        ps.setString(6, task.getAssignedTo());
+                        setNullableDouble(ps, 7, task.getEstimatedHours());
+                        setNullableDouble(ps, 8, task.getActualHours());
+                        ps.setTimestamp(9, toTimestamp(task.getUpdatedAt()));
+                        ps.setLong(10, task.getVersion());
+                        ps.setLong(11, task.getId());
+                        ps.setLong(12, task.getUserId());
+                        ps.setLong(13, task.getVersion());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return tasks.size();
+                    }
+                });
+    }
+
+    /**
+     * Writes only the given columns of one of a tenant's tasks in a single UPDATE, without reading
+     * the row first. With {@code expectedVersion} the row is only written while it still has that
+     * version. Returns the number of rows updated.
+     */
+    public int patchTask(long id, long userId, Map<String, Object> columnValues, LocalDateTime updatedAt,
+                         Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE tasks SET ");
+        List<Object> args = new ArrayList<>();
+        columnValues.forEach((column, value) -> {
+            sql.append(column).append("=?, ");
+            args.add(value instanceof TaskStatus status ? status.name()
+                    : value instanceof LocalDateTime dateTime ? toTimestamp(dateTime)
+                    : value);
+        });
+        sql.append("updated_at=?, version=version+1 WHERE id=? AND user_id=?");
+        args.add(toTimestamp(updatedAt));
+        args.add(id);
+        args.add(userId);
+        if (expectedVersion != null) {
+            sql.append(" AND version=?");
+            args.add(expectedVersion);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // Current version of a tenant's task, or null when the tenant has no such task
+    public Long findVersion(long id, long userId) {
+        List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM tasks WHERE id = ? AND user_id = ?",
+                Long.class, id, userId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    // Status, priority, deadline and owner of a tenant's tasks, locked until the transaction ends so
+    // the counters can be moved from exactly these values; ids the tenant does not have are left out
+    public List<Task> lockCounted(Collection<Long> ids, long userId) {
+        Object[] args = new Object[ids.size() + 1];
+        args[0] = userId;
+        System.arraycopy(ids.toArray(), 0, args, 1, ids.size());
+        return jdbcTemplate.query("SELECT id, status, priority, deadline, user_id FROM tasks WHERE user_id = ? AND id IN (" +
+                placeholders(ids.size()) + ") FOR UPDATE", projectedRowMapper, args);
+    }
+
+    // Id, deadline, status and owner of every active task with a deadline, streamed in deadline order
+    public void streamActiveDeadlines(Consumer<Task> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "SELECT id, deadline, status, user_id FROM tasks WHERE deadline IS NOT NULL " +
+                            "AND status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY deadline",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            return ps;
+        }, rs -> {
+            consumer.accept(projectedRowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    // Every active task, streamed in (user_id, id) order to load the working set
+    public void streamActiveTasks(Consumer<Task> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "SELECT " + TaskRowMapper.COLUMNS + " FROM tasks " +
+                            "WHERE status NOT IN ('COMPLETED', 'CANCELLED') ORDER BY user_id, id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(streamFetchSize);
+            return ps;
+        }, rs -> {
+            consumer.accept(taskRowMapper.mapRow(rs, rs.getRow()));
+        });
+    }
+
+    // Full rows of the given tasks; ids that no longer exist are left out
+    public List<Task> findTasks(Collection<Long> ids) {
+        return jdbcTemplate.query("SELECT " + TaskRowMapper.COLUMNS + " FROM tasks WHERE id IN (" +
+                placeholders(ids.size()) + ")", taskRowMapper, ids.toArray());
+    }
+
+    // Id, deadline, status and owner of the given tasks; ids that no longer exist are left out
+    public List<Task> findDeadlines(Collection<Long> ids) {
+        return jdbcTemplate.query("SELECT id, deadline, status, user_id FROM tasks WHERE id IN (" +
+                placeholders(ids.size()) + ")", projectedRowMapper, ids.toArray());
+    }
+
+    // Move each of a tenant's tasks to the given status in one JDBC batch; returns per-row update counts
+    public int[] batchUpdateStatus(List<Long> ids, TaskStatus status, LocalDateTime updatedAt, long userId) {
+        Timestamp timestamp = toTimestamp(updatedAt);
+        return jdbcTemplate.batchUpdate(
+                "UPDATE tasks SET status=?, updated_at=?, version=version+1 WHERE id=? AND user_id=?",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                        ps.setString(1, status.name());
+                        ps.setTimestamp(2, timestamp);
+                        ps.setLong(3, ids.get(i));
+                        ps.setLong(4, userId);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return ids.size();
+                    }
+                });
+    }
+
+    // Delete a tenant's tasks by id in one JDBC batch; returns per-row update counts
+    public int[] batchDeleteTasks(List<Long> ids, long userId) {
+        String sql = "DELETE FROM tasks WHERE id = ? AND user_id = ?";
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(@NonNull PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, ids.get(i));
+                ps.setLong(2, userId);
             }
-            return jdbcTemplate.update(
-                    "UPDATE tasks SET title=?, description=?, status=?, priority=?, deadline=?, updated_at=? WHERE id=?",
-                    task.getTitle(), task.getDescription(), task.getStatus().toString(), task.getPriority(),
-                    task.getDeadline(), task.getUpdatedAt(), task.getId());
-        } catch (DataAccessException e) {
-            logger.error("Database error updating task with ID {}: {}", task != null ? task.getId() : "null", e.getMessage());
-            return 0;
-        } catch (Exception e) {
-            logger.error("Unexpected error updating task with ID {}: {}", task != null ? task.getId() : "null", e.getMessage());
-            return 0;
-        }
-    }
-
-    // Delete a task by ID
-    public int deleteTask(Long id) {
-        try {
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID provided for deletion: {}", id);
-                return 0;
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
             }
-            return jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", id);
-        } catch (DataAccessException e) {
-            logger.error("Database error deleting task with ID {}: {}", id, e.getMessage());
-            return 0;
-        } catch (Exception e) {
-            logger.error("Unexpected error deleting task with ID {}: {}", id, e.getMessage());
-            return 0;
+        });
+    }
+
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    static LocalDateTime toLocalDateTime(Timestamp value) {
+        return value != null ? value.toLocalDateTime() : null;
+    }
+
+    static Timestamp toTimestamp(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    static void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+        if (value != null) {
+            ps.setDouble(index, value);
+        } else {
+            ps.setNull(index, Types.DOUBLE);
         }
     }
 }
@@ -2,6 +2,7 @@ package com.example.taskmanagement.repository;
 
 import com.example.taskmanagement.model.Task;
 import com.example.taskmanagement.model.TaskStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,20 +10,35 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
+/**
+ * Task queries. Every request-serving query is scoped to one tenant ({@code userId}) and is
+ * served by a {@code (user_id, ...)} index, so its cost follows the tenant's row count rather
+ * than the table's. The unscoped aggregates below are for background reconciliation.
+ */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-    // Find tasks by status
-    List<Task> findByStatus(TaskStatus status);
+    // Find a tenant's task by id
+    Optional<Task> findByIdAndUserId(Long id, Long userId);
+
+    // Find all of a tenant's tasks
+    List<Task> findByUserId(Long userId);
+
+    // Find a tenant's tasks by status
+    List<Task> findByUserIdAndStatus(Long userId, TaskStatus status);
 
     // Find tasks created after a specific date
     List<Task> findByCreatedAtAfter(LocalDateTime date);
 
-    // Find tasks by title containing a keyword
-    List<Task> findByTitleContainingIgnoreCase(String keyword);
+    // Find a tenant's tasks by title containing a keyword
+    List<Task> findByUserIdAndTitleContainingIgnoreCase(Long userId, String keyword);
+
+    // Count a tenant's tasks, for the per-tenant quota
+    long countByUserId(Long userId);
 
-    // Custom SQL query to find tasks due soon (within next 24 hours)
+    // Find tasks that are neither completed nor cancelled
     @Query("SELECT t FROM Task t WHERE t.status != 'COMPLETED' AND t.status != 'CANCELLED'")
     List<Task> findActiveTasks();
 
@@ -33,7 +49,41 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    // Native SQL query to count tasks by status
-    @Query(value = "SELECT status, COUNT(*) FROM tasks GROUP BY status", nativeQuery = true)
-    List<Object[]> countTasksByStatus();
-}
\ No newline at end of file
+    // Keyset pagination of a tenant's tasks ordered by id, served by idx_task_user_id
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId ORDER BY t.id ASC")
+    List<Task> findFirstPageById(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId AND t.id > :afterId ORDER BY t.id ASC")
+    List<Task> findPageAfterId(@Param("userId") Long userId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Keyset pagination ordered by (createdAt, id), served by idx_task_user_created_at
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findFirstPageByCreatedAt(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT t FROM Task t WHERE t.userId = :userId " +
+            "AND (t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :afterId)) " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findPageAfterCreatedAt(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    // Native SQL query to count tasks by tenant and status, covered by idx_task_user_status
+    @Query(value = "SELECT user_id, status, COUNT(*) FROM tasks GROUP BY user_id, status", nativeQuery = true)
+    List<Object[]> countTasksByUserAndStatus();
+
+    // Native SQL query to count tasks by tenant and priority
+    @Query(value = "SELECT user_id, priority, COUNT(*) FROM tasks GROUP BY user_id, priority", nativeQuery = true)
+    List<Object[]> countTasksByUserAndPriority();
+
+    // Count each tenant's active tasks whose deadline has passed, the same rule as the /overdue list
+    @Query("SELECT t.userId, COUNT(t) FROM Task t WHERE t.status != 'COMPLETED' AND t.status != 'CANCELLED' " +
+            "AND t.deadline < :now GROUP BY t.userId")
+    List<Object[]> countOverdueByUser(@Param("now") LocalDateTime now);
+
+    // Count each tenant's active tasks whose deadline falls within [from, to)
+    @Query("SELECT t.userId, COUNT(t) FROM Task t WHERE t.status != 'COMPLETED' AND t.status != 'CANCELLED' " +
+            "AND t.deadline >= :from AND t.deadline < :to GROUP BY t.userId")
+    List<Object[]> countActiveDueBetweenByUser(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,59 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.example.taskmanagement.repository.TaskJdbcDao.toLocalDateTime;
+
+/**
+ * Maps a full {@code tasks} row selected as {@link #COLUMNS} to a {@link Task}. Columns are
+ * read by position, so no label lookup happens per row; queries must select exactly
+ * {@code COLUMNS}, in that order.
+ */
+public class TaskRowMapper implements RowMapper<Task> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskRowMapper.class);
+
+    // Every task column, in the order mapRow reads them
+    public static final String COLUMNS = "id, title, description, status, priority, deadline, created_at, " +
+            "updated_at, user_id, assigned_to, estimated_hours, actual_hours, attachment_url, attachment_filename, " +
+            "version";
+
+    @Override
+    public Task mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        try {
+            Task task = new Task();
+            task.setId(rs.getLong(1));
+            task.setTitle(rs.getString(2));
+            task.setDescription(rs.getString(3));
+            task.setStatus(TaskStatus.valueOf(rs.getString(4)));
+            task.setPriority(rs.getInt(5));
+            task.setDeadline(toLocalDateTime(rs.getTimestamp(6)));
+            task.setCreatedAt(toLocalDateTime(rs.getTimestamp(7)));
+            task.setUpdatedAt(toLocalDateTime(rs.getTimestamp(8)));
+            task.setUserId(rs.getLong(9));
+            task.setAssignedTo(rs.getString(10));
+            double estimatedHours = rs.getDouble(11);
+            task.setEstimatedHours(rs.wasNull() ? null : estimatedHours);
+            double actualHours = rs.getDouble(12);
+            task.setActualHours(rs.wasNull() ? null : actualHours);
+            task.setAttachmentUrl(rs.getString(13));
+            task.setAttachmentFilename(rs.getString(14));
+            task.setVersion(rs.getLong(15));
+            return task;
+        } catch (SQLException e) {
+            logger.error("Error mapping ResultSet to Task object: {}", e.getMessage());
+            throw e;
+        } catch (IllegalArgumentException e) {
+            logger.error("Error converting task status: {}", e.getMessage());
+            throw new SQLException("Invalid task status in database", e);
+        }
+    }
+}
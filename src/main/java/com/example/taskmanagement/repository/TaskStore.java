@@ -0,0 +1,50 @@
+package com.example.taskmanagement.repository;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-row and list access to tasks used by the service, scoped to one tenant.
+ * {@code app.tasks.store} selects the implementation: {@code jpa} ({@link JpaTaskStore}, the default)
+ * or {@code jdbc} ({@link JdbcTaskStore}). Both propagate database errors as
+ * {@link org.springframework.dao.DataAccessException}s rather than returning empty results.
+ */
+public interface TaskStore {
+
+    Optional<Task> findById(long id, long userId);
+
+    // Looks up tasks by primary key in any order, skipping missing ids
+    List<Task> findAllById(Collection<Long> ids);
+
+    List<Task> findByUser(long userId);
+
+    List<Task> findByUserAndStatus(long userId, TaskStatus status);
+
+    // Case-insensitive substring match on the title
+    List<Task> findByUserAndTitle(long userId, String keyword);
+
+    // Keyset page ordered by id, starting after afterId, or from the start when it is null
+    List<Task> findPageById(long userId, Long afterId, int limit);
+
+    // Keyset page ordered by (createdAt, id), starting after the pair, or from the start when createdAt is null
+    List<Task> findPageByCreatedAt(long userId, LocalDateTime afterCreatedAt, Long afterId, int limit);
+
+    long countByUser(long userId);
+
+    // Inserts a new task, filling in its id, timestamps and version
+    Task insert(Task task);
+
+    /**
+     * Writes the task's editable fields, provided the row still has the task's version, and
+     * returns it with the new version and {@code updatedAt}. A stale version fails with an
+     * {@link org.springframework.dao.OptimisticLockingFailureException} before commit.
+     */
+    Task update(Task task);
+
+    void delete(Task task);
+}
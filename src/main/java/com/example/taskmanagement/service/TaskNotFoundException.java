@@ -0,0 +1,25 @@
+package com.example.taskmanagement.service;
+
+/**
+ * Thrown when a write targets a task that does not exist for the current tenant. Misses are
+ * routine (stale clients, scanners), so the exception records no stack trace and builds its
+ * message only when asked for it.
+ */
+public class TaskNotFoundException extends RuntimeException {
+
+    private final long taskId;
+
+    public TaskNotFoundException(long taskId) {
+        super(null, null, false, false);
+        this.taskId = taskId;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    @Override
+    public String getMessage() {
+        return "Task not found with id: " + taskId;
+    }
+}
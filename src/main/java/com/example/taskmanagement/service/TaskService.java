@@ -1,20 +1,53 @@
 package com.example.taskmanagement.service;
 
+import com.example.taskmanagement.dto.BatchResult;
+import com.example.taskmanagement.dto.TaskPage;
+import com.example.taskmanagement.dto.TaskPatch;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
 import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TaskService {
     List<Task> getAllTasks();
 
-    Task getTaskById(Long id);
+    TaskPage getTasksPage(String cursor, Integer limit, String sort);
+
+    void streamAllTasks(Consumer<Task> consumer);
+
+    // Empty when the current tenant has no task with this id
+    Optional<Task> findTaskById(Long id);
 
     Task createTask(Task task);
 
     Task updateTask(Long id, Task task);
 
+    // Fails with OptimisticLockingFailureException unless the stored version equals expectedVersion (null skips the check)
+    // and with TaskNotFoundException when there is no such task, as do patchTask and deleteTask
+    Task updateTask(Long id, Task task, Long expectedVersion);
+
+    // Writes only the patched columns; same version semantics as updateTask
+    void patchTask(Long id, TaskPatch patch, Long expectedVersion);
+
     void deleteTask(Long id);
 
+    BatchResult createTasks(List<Task> tasks);
+
+    BatchResult updateTasks(List<Task> tasks);
+
+    BatchResult deleteTasks(List<Long> ids);
+
+    BatchResult updateTaskStatuses(List<Long> ids, TaskStatus status);
+
     List<Task> getTasksByStatus(String status);
 
     List<Task> searchTasksByTitle(String title);
+
+    TaskPage searchTasks(TaskSearchCriteria criteria);
+
+    List<Task> getOverdueTasks(Integer limit);
+
+    List<Task> getDueSoonTasks(Integer limit);
 }
\ No newline at end of file
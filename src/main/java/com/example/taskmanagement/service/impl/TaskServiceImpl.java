@@ -1,248 +1,760 @@
 package com.example.taskmanagement.service.impl;
 
+import com.example.taskmanagement.cache.TaskCache;
+import com.example.taskmanagement.deadline.TaskDeadlineEngine;
+import com.example.taskmanagement.dto.BatchItemResult;
+import com.example.taskmanagement.dto.BatchResult;
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskFields;
+import com.example.taskmanagement.dto.TaskPage;
+import com.example.taskmanagement.dto.TaskPatch;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.events.TaskChangeEvent;
+import com.example.taskmanagement.events.TaskEventHub;
 import com.example.taskmanagement.model.Task;
 import com.example.taskmanagement.model.TaskStatus;
-import com.example.taskmanagement.repository.TaskRepository;
+import com.example.taskmanagement.outbox.TaskOutbox;
+import com.example.taskmanagement.replica.ReadYourWrites;
+import com.example.taskmanagement.repository.TaskJdbcDao;
+import com.example.taskmanagement.repository.TaskStore;
+import com.example.taskmanagement.service.TaskNotFoundException;
 import com.example.taskmanagement.service.TaskService;
+import com.example.taskmanagement.stats.TaskStatistics;
+import com.example.taskmanagement.tenant.TenantContext;
+import com.example.taskmanagement.tenant.TenantQuotaExceededException;
+import com.example.taskmanagement.workingset.TaskWorkingSet;
+import com.example.taskmanagement.writebehind.TaskWriteBehind;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Collections;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 public class TaskServiceImpl implements TaskService {
     
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
-    private final TaskRepository taskRepository;
+    private static final String SORT_BY_ID = "id";
+    private static final String SORT_BY_CREATED_AT = "createdAt";
+
+    private final TaskStore taskStore;
+    private final TaskJdbcDao taskJdbcDao;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TaskCache taskCache;
+    private final TaskValidator taskValidator;
+    private final TaskStatistics taskStatistics;
+    private final TaskEventHub taskEventHub;
+    private final TaskOutbox taskOutbox;
+    private final TaskDeadlineEngine taskDeadlineEngine;
+    private final TaskWriteBehind taskWriteBehind;
+    private final TaskWorkingSet taskWorkingSet;
+
+    @Value("${app.tasks.page.default-limit:50}")
+    private int defaultPageLimit;
+
+    @Value("${app.tasks.page.max-limit:500}")
+    private int maxPageLimit;
+
+    @Value("${app.tasks.batch.chunk-size:500}")
+    private int batchChunkSize;
+
+    @Value("${app.tasks.batch.max-items:10000}")
+    private int batchMaxItems;
+
+    // Read-only transactions then read from a replica, whose rows may lag the primary
+    @Value("${app.datasource.replicas.enabled:false}")
+    private boolean replicasEnabled;
+
+    // Most tasks a tenant may own; 0 means unlimited
+    @Value("${app.tenancy.max-tasks-per-user:0}")
+    private long maxTasksPerUser;
 
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository) {
-        this.taskRepository = taskRepository;
+    public TaskServiceImpl(TaskStore taskStore, TaskJdbcDao taskJdbcDao,
+                           PlatformTransactionManager transactionManager, TaskCache taskCache,
+                           TaskValidator taskValidator, TaskStatistics taskStatistics, TaskEventHub taskEventHub,
+                           TaskOutbox taskOutbox, TaskDeadlineEngine taskDeadlineEngine,
+                           TaskWriteBehind taskWriteBehind, TaskWorkingSet taskWorkingSet) {
+        this.taskStore = taskStore;
+        this.taskJdbcDao = taskJdbcDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.taskCache = taskCache;
+        this.taskValidator = taskValidator;
+        this.taskStatistics = taskStatistics;
+        this.taskEventHub = taskEventHub;
+        this.taskOutbox = taskOutbox;
+        this.taskDeadlineEngine = taskDeadlineEngine;
+        this.taskWriteBehind = taskWriteBehind;
+        this.taskWorkingSet = taskWorkingSet;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
-        try {
-            List<Task> tasks = taskRepository.findAll();
-            logger.info("Retrieved {} tasks", tasks.size());
-            return tasks;
-        } catch (DataAccessException e) {
-            logger.error("Database error fetching all tasks: {}", e.getMessage());
-            return Collections.emptyList();
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching all tasks: {}", e.getMessage());
-            return Collections.emptyList();
+        long userId = TenantContext.currentUserId();
+        List<Task> tasks = taskWriteBehind.overlay(userId, taskStore.findByUser(userId));
+        logger.info("Retrieved {} tasks", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPage getTasksPage(String cursor, Integer limit, String sort) {
+        int pageSize = pageSize(limit);
+        String sortKey = StringUtils.hasText(sort) ? sort : SORT_BY_ID;
+        if (!SORT_BY_ID.equals(sortKey) && !SORT_BY_CREATED_AT.equals(sortKey)) {
+            throw new IllegalArgumentException("Sort must be one of: id, createdAt");
+        }
+        TaskCursor after = StringUtils.hasText(cursor) ? TaskCursor.decode(cursor) : null;
+        boolean byCreatedAt = SORT_BY_CREATED_AT.equals(sortKey);
+        if (after != null && byCreatedAt != (after.getCreatedAt() != null)) {
+            throw new IllegalArgumentException("Cursor does not match sort: " + sortKey);
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        long userId = TenantContext.currentUserId();
+        List<Task> rows = byCreatedAt
+                ? taskStore.findPageByCreatedAt(userId, after != null ? after.getCreatedAt() : null,
+                        after != null ? after.getId() : null, pageSize + 1)
+                : taskStore.findPageById(userId, after != null ? after.getId() : null, pageSize + 1);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Task last = rows.get(pageSize - 1);
+            nextCursor = (byCreatedAt
+                    ? TaskCursor.ofCreatedAt(last.getCreatedAt(), last.getId())
+                    : TaskCursor.ofId(last.getId())).encode();
         }
+        logger.debug("Retrieved page of {} tasks sorted by {}", rows.size(), sortKey);
+        return new TaskPage(taskWriteBehind.overlay(userId, rows), nextCursor);
+    }
+
+    @Override
+    public void streamAllTasks(Consumer<Task> consumer) {
+        long userId = TenantContext.currentUserId();
+        taskJdbcDao.streamTasks(userId, task -> consumer.accept(taskWriteBehind.overlay(userId, task)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Task getTaskById(Long id) {
-        try {
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID: {}", id);
-                throw new IllegalArgumentException("Invalid task ID: " + id);
-            }
-            return taskRepository.findById(id)
-                    .orElseThrow(() -> {
-                        logger.warn("Task not found with id: {}", id);
-                        return new RuntimeException("Task not found with id: " + id);
-                    });
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error: {}", e.getMessage());
-            throw e;
-        } catch (DataAccessException e) {
-            logger.error("Database error fetching task with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Database error fetching task: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching task with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Error fetching task: " + e.getMessage());
+    public Optional<Task> findTaskById(Long id) {
+        if (id == null || id <= 0) {
+            logger.warn("Invalid task ID: {}", id);
+            throw new IllegalArgumentException("Invalid task ID: " + id);
         }
+        return Optional.ofNullable(findTask(TenantContext.currentUserId(), id));
     }
 
     @Override
     @Transactional
     public Task createTask(Task task) {
-        try {
-            validateTask(task);
-            
-            // Set default values
-            if (task.getStatus() == null) {
-                task.setStatus(TaskStatus.TODO);
-                logger.debug("Set default status to TODO for new task");
-            }
-            if (task.getPriority() == null) {
-                task.setPriority(3); // Default to low priority
-                logger.debug("Set default priority to 3 for new task");
-            }
-            if (task.getUserId() == null) {
-                task.setUserId(1L); // Default user ID for single-user mode
-                logger.debug("Set default userId to 1 for new task");
-            }
-            
-            Task savedTask = taskRepository.save(task);
-            logger.info("Successfully created task with ID: {}", savedTask.getId());
-            return savedTask;
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error creating task: {}", e.getMessage());
-            throw new IllegalArgumentException("Validation error: " + e.getMessage());
-        } catch (DataAccessException e) {
-            logger.error("Database error creating task: {}", e.getMessage());
-            throw new RuntimeException("Database error creating task: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error creating task: {}", e.getMessage());
-            throw new RuntimeException("Error creating task: " + e.getMessage());
+        taskValidator.validate(task);
+        applyDefaults(task);
+        checkQuota(task.getUserId(), 1);
+        // A client-supplied id or version would make the store merge over an existing row
+        task.setId(null);
+        task.setVersion(null);
+
+        Task savedTask = taskStore.insert(task);
+        taskStatistics.recordCreated(savedTask);
+        publishChanges(List.of(TaskChangeEvent.created(savedTask)));
+        logger.info("Successfully created task with ID: {}", savedTask.getId());
+        return savedTask;
+    }
+
+    @Override
+    public Task updateTask(Long id, Task task) {
+        return updateTask(id, task, null);
+    }
+
+    // Not @Transactional: write-behind updates touch only memory and the journal, so only the
+    // write-through path opens a transaction
+    @Override
+    public Task updateTask(Long id, Task task, Long expectedVersion) {
+        if (id == null || id <= 0) {
+            logger.warn("Invalid task ID for update: {}", id);
+            throw new IllegalArgumentException("Invalid task ID: " + id);
+        }
+
+        Task updatedTask = taskWriteBehind.isEnabled()
+                ? updateBehind(id, task, expectedVersion)
+                : transactionTemplate.execute(status -> updateNow(id, task, expectedVersion));
+        logger.info("Successfully updated task with ID: {}", id);
+        return updatedTask;
+    }
+
+    private Task updateNow(Long id, Task task, Long expectedVersion) {
+        // Read the row directly: cached instances are shared and must not be mutated
+        Task existingTask = findTaskForWrite(id);
+        if (expectedVersion != null && !expectedVersion.equals(existingTask.getVersion())) {
+            logger.warn("Version conflict updating task with ID {}: expected {}, found {}",
+                    id, expectedVersion, existingTask.getVersion());
+            throw new OptimisticLockingFailureException("Task " + id + " has been modified (current version "
+                    + existingTask.getVersion() + ")");
         }
+        taskValidator.validate(task);
+        Task previous = existingTask.copy();
+        copyEditable(task, existingTask);
+
+        // Keep the existing userId - don't allow updating it
+        // The store sets updatedAt and fails on a concurrent write as a version conflict
+        Task updatedTask = taskStore.update(existingTask);
+        taskCache.evict(updatedTask.getUserId(), id);
+        taskStatistics.recordUpdated(previous, updatedTask);
+        publishChanges(List.of(TaskChangeEvent.updated(updatedTask, previous.getStatus())));
+        return updatedTask;
+    }
+
+    // Coalesces the update with the task's pending one; the flush writes it and records it in the outbox
+    private Task updateBehind(Long id, Task task, Long expectedVersion) {
+        long userId = TenantContext.currentUserId();
+        Task stored = findTask(userId, id);
+        if (stored == null) {
+            throw new TaskNotFoundException(id);
+        }
+        taskValidator.validate(task);
+        TaskWriteBehind.Change change = taskWriteBehind.update(stored, expectedVersion,
+                pendingTask -> copyEditable(task, pendingTask));
+        Task updatedTask = change.current();
+        taskCache.evict(userId, id);
+        taskStatistics.recordUpdated(change.previous(), updatedTask);
+        List<TaskChangeEvent> events = List.of(TaskChangeEvent.updated(updatedTask, change.previous().getStatus()));
+        events.forEach(taskEventHub::publish);
+        taskDeadlineEngine.track(events);
+        taskWorkingSet.track(events);
+        return updatedTask;
+    }
+
+    // A null status or priority keeps the stored value, as PATCH does; both columns are NOT NULL
+    private static void copyEditable(Task source, Task target) {
+        target.setTitle(source.getTitle());
+        target.setDescription(source.getDescription());
+        if (source.getStatus() != null) {
+            target.setStatus(source.getStatus());
+        }
+        if (source.getPriority() != null) {
+            target.setPriority(source.getPriority());
+        }
+        target.setDeadline(source.getDeadline());
+        target.setAssignedTo(source.getAssignedTo());
+        target.setEstimatedHours(source.getEstimatedHours());
+        target.setActualHours(source.getActualHours());
     }
 
     @Override
     @Transactional
-    public Task updateTask(Long id, Task task) {
-        try {
-            if (id == null || id <= 0) {
-                logger.warn("Invalid task ID for update: {}", id);
-                throw new IllegalArgumentException("Invalid task ID: " + id);
-            }
-            
-            Task existingTask = getTaskById(id);
-            validateTask(task);
-            
-            // Update task fields
-            existingTask.setTitle(task.getTitle());
-            existingTask.setDescription(task.getDescription());
-            existingTask.setStatus(task.getStatus());
-            existingTask.setPriority(task.getPriority());
-            existingTask.setDeadline(task.getDeadline());
-            existingTask.setAssignedTo(task.getAssignedTo());
-            existingTask.setEstimatedHours(task.getEstimatedHours());
-            existingTask.setActualHours(task.getActualHours());
-            
-            // Keep the existing userId - don't allow updating it
-            // updatedAt will be set automatically by @PreUpdate
-            
-            Task updatedTask = taskRepository.save(existingTask);
-            logger.info("Successfully updated task with ID: {}", id);
-            return updatedTask;
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error updating task with ID {}: {}", id, e.getMessage());
-            throw new IllegalArgumentException("Validation error: " + e.getMessage());
-        } catch (DataAccessException e) {
-            logger.error("Database error updating task with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Database error updating task: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error updating task with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Error updating task: " + e.getMessage());
+    public void patchTask(Long id, TaskPatch patch, Long expectedVersion) {
+        if (id == null || id <= 0) {
+            logger.warn("Invalid task ID for patch: {}", id);
+            throw new IllegalArgumentException("Invalid task ID: " + id);
+        }
+        taskValidator.validate(patch);
+
+        Map<String, Object> columnValues = new LinkedHashMap<>();
+        patch.getChanges().forEach((field, value) -> columnValues.put(TaskPatch.COLUMNS.get(field), value));
+        long userId = TenantContext.currentUserId();
+        // A pending full update is written first, so the patch applies on top of it
+        taskWriteBehind.flush(userId, List.of(id));
+        // Moving the counters needs the values being replaced; other patches write without reading
+        boolean counted = patch.has("status") || patch.has("priority") || patch.has("deadline");
+        List<Task> previous = counted ? taskJdbcDao.lockCounted(List.of(id), userId) : List.of();
+        if (counted && previous.isEmpty()) {
+            throw new TaskNotFoundException(id);
+        }
+        int updated = taskJdbcDao.patchTask(id, userId, columnValues, LocalDateTime.now(), expectedVersion);
+        if (updated == 0) {
+            // Only the failure path reads the row, to tell a missing task from a stale version
+            Long currentVersion = taskJdbcDao.findVersion(id, userId);
+            if (currentVersion == null) {
+                throw new TaskNotFoundException(id);
+            }
+            logger.warn("Version conflict patching task with ID {}: expected {}, found {}",
+                    id, expectedVersion, currentVersion);
+            throw new OptimisticLockingFailureException("Task " + id + " has been modified (current version "
+                    + currentVersion + ")");
+        }
+
+        taskCache.evict(userId, id);
+        publishChanges(List.of(TaskChangeEvent.patched(id, userId, patch.getChanges())));
+        if (counted) {
+            Task current = previous.get(0).copy();
+            if (patch.has("status")) {
+                current.setStatus((TaskStatus) patch.get("status"));
+            }
+            if (patch.has("priority")) {
+                current.setPriority((Integer) patch.get("priority"));
+            }
+            if (patch.has("deadline")) {
+                current.setDeadline((LocalDateTime) patch.get("deadline"));
+            }
+            taskStatistics.recordUpdated(previous, Map.of(id, current));
         }
+        logger.info("Successfully patched task with ID: {} ({})", id, patch.getChanges().keySet());
     }
 
     @Override
     @Transactional
     public void deleteTask(Long id) {
-        try {
+        if (id == null || id <= 0) {
+            logger.warn("Invalid task ID for deletion: {}", id);
+            throw new IllegalArgumentException("Invalid task ID: " + id);
+        }
+
+        Task task = findTaskForWrite(id);
+        taskStore.delete(task);
+        taskWriteBehind.discard(task.getUserId(), List.of(id));
+        taskCache.evict(task.getUserId(), id);
+        taskStatistics.recordDeleted(task);
+        publishChanges(List.of(TaskChangeEvent.deleted(task)));
+        logger.info("Successfully deleted task with ID: {}", id);
+    }
+
+    @Override
+    public BatchResult createTasks(List<Task> tasks) {
+        checkBatchSize(tasks);
+        BatchResult result = new BatchResult();
+        List<Task> valid = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                taskValidator.validate(task);
+            } catch (IllegalArgumentException e) {
+                result.add(new BatchItemResult(i, null, BatchItemResult.Outcome.INVALID, e.getMessage()));
+                continue;
+            }
+            applyDefaults(task);
+            // @PrePersist does not run on the JDBC path
+            task.setId(null);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            valid.add(task);
+            indexes.add(i);
+        }
+        checkQuota(TenantContext.currentUserId(), valid.size());
+
+        writeInChunks(valid, indexes, chunk -> {
+            taskJdbcDao.batchInsertTasks(chunk);
+            chunk.forEach(taskStatistics::recordCreated);
+            return null;
+        }, Task::getId, BatchItemResult.Outcome.CREATED, TaskChangeEvent::created, result);
+        logger.info("Batch create finished: {} created, {} failed", result.getSucceeded(), result.getFailed());
+        return result.sorted();
+    }
+
+    @Override
+    public BatchResult updateTasks(List<Task> tasks) {
+        checkBatchSize(tasks);
+        BatchResult result = new BatchResult();
+        List<Task> valid = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            try {
+                if (task != null && (task.getId() == null || task.getId() <= 0)) {
+                    throw new IllegalArgumentException("Invalid task ID: " + task.getId());
+                }
+                taskValidator.validate(task);
+            } catch (IllegalArgumentException e) {
+                Long id = task != null ? task.getId() : null;
+                result.add(new BatchItemResult(i, id, BatchItemResult.Outcome.INVALID, e.getMessage()));
+                continue;
+            }
+            // No create defaults: an omitted status or priority keeps the stored value, as a single PUT does
+            task.setUserId(TenantContext.currentUserId());
+            task.setUpdatedAt(now);
+            valid.add(task);
+            indexes.add(i);
+        }
+
+        // Only the editable columns were written; the rest of the request body is not the stored state
+        long userId = TenantContext.currentUserId();
+        taskWriteBehind.flush(userId, valid.stream().map(Task::getId).toList());
+        writeInChunks(valid, indexes, chunk -> {
+            List<Task> previous = taskJdbcDao.lockCounted(chunk.stream().map(Task::getId).toList(), userId);
+            // Fill the kept values in from the locked rows, so counters and events see what is stored
+            Map<Long, Task> stored = new HashMap<>();
+            previous.forEach(task -> stored.put(task.getId(), task));
+            for (Task task : chunk) {
+                Task row = stored.get(task.getId());
+                if (row != null && task.getStatus() == null) {
+                    task.setStatus(row.getStatus());
+                }
+                if (row != null && task.getPriority() == null) {
+                    task.setPriority(row.getPriority());
+                }
+            }
+            int[] counts = taskJdbcDao.batchUpdateTasks(chunk, userId);
+            Map<Long, Task> current = new HashMap<>();
+            chunk.forEach(task -> current.put(task.getId(), task));
+            taskStatistics.recordUpdated(previous, current);
+            return counts;
+        }, Task::getId, BatchItemResult.Outcome.UPDATED, task -> TaskChangeEvent.patched(task.getId(), userId,
+                TaskFields.project(task, TaskPatch.COLUMNS.keySet())), result);
+        taskCache.evictAll(userId, valid.stream().map(Task::getId).toList());
+        logger.info("Batch update finished: {} updated, {} failed", result.getSucceeded(), result.getFailed());
+        return result.sorted();
+    }
+
+    @Override
+    public BatchResult deleteTasks(List<Long> ids) {
+        checkBatchSize(ids);
+        BatchResult result = new BatchResult();
+        List<Long> valid = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
             if (id == null || id <= 0) {
-                logger.warn("Invalid task ID for deletion: {}", id);
-                throw new IllegalArgumentException("Invalid task ID: " + id);
+                result.add(new BatchItemResult(i, id, BatchItemResult.Outcome.INVALID, "Invalid task ID: " + id));
+                continue;
             }
-            
-            Task task = getTaskById(id);
-            taskRepository.delete(task);
-            logger.info("Successfully deleted task with ID: {}", id);
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error deleting task with ID {}: {}", id, e.getMessage());
-            throw e;
-        } catch (DataAccessException e) {
-            logger.error("Database error deleting task with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Database error deleting task: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error deleting task with ID {}: {}", id, e.getMessage());
-            throw new RuntimeException("Error deleting task: " + e.getMessage());
+            valid.add(id);
+            indexes.add(i);
         }
+
+        long userId = TenantContext.currentUserId();
+        writeInChunks(valid, indexes, chunk -> {
+            List<Task> previous = taskJdbcDao.lockCounted(chunk, userId);
+            int[] counts = taskJdbcDao.batchDeleteTasks(chunk, userId);
+            taskStatistics.recordDeleted(previous);
+            return counts;
+        }, Function.identity(), BatchItemResult.Outcome.DELETED, id -> TaskChangeEvent.deleted(id, userId), result);
+        taskWriteBehind.discard(userId, valid);
+        taskCache.evictAll(userId, valid);
+        logger.info("Batch delete finished: {} deleted, {} failed", result.getSucceeded(), result.getFailed());
+        return result.sorted();
     }
 
     @Override
-    @Transactional(readOnly = true)
+    public BatchResult updateTaskStatuses(List<Long> ids, TaskStatus status) {
+        checkBatchSize(ids);
+        if (status == null) {
+            throw new IllegalArgumentException("Task status cannot be null");
+        }
+        BatchResult result = new BatchResult();
+        List<Long> valid = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null || id <= 0) {
+                result.add(new BatchItemResult(i, id, BatchItemResult.Outcome.INVALID, "Invalid task ID: " + id));
+                continue;
+            }
+            valid.add(id);
+            indexes.add(i);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long userId = TenantContext.currentUserId();
+        taskWriteBehind.flush(userId, valid);
+        writeInChunks(valid, indexes, chunk -> {
+            List<Task> previous = taskJdbcDao.lockCounted(chunk, userId);
+            int[] counts = taskJdbcDao.batchUpdateStatus(chunk, status, now, userId);
+            Map<Long, Task> current = new HashMap<>();
+            for (Task task : previous) {
+                Task moved = task.copy();
+                moved.setStatus(status);
+                current.put(moved.getId(), moved);
+            }
+            taskStatistics.recordUpdated(previous, current);
+            return counts;
+        }, Function.identity(), BatchItemResult.Outcome.UPDATED,
+                id -> TaskChangeEvent.patched(id, userId, Map.of("status", status)), result);
+        taskCache.evictAll(userId, valid);
+        logger.info("Batch status transition to {} finished: {} updated, {} failed",
+                status, result.getSucceeded(), result.getFailed());
+        return result.sorted();
+    }
+
+    // Not @Transactional: pending updates are written before the read-only transaction of a database read
+    @Override
     public List<Task> getTasksByStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            logger.warn("Status cannot be null or empty");
+            throw new IllegalArgumentException("Status cannot be null or empty");
+        }
+        TaskStatus taskStatus;
         try {
-            if (status == null || status.trim().isEmpty()) {
-                logger.warn("Status cannot be null or empty");
-                throw new IllegalArgumentException("Status cannot be null or empty");
-            }
-            
-            TaskStatus taskStatus = TaskStatus.valueOf(status.toUpperCase());
-            List<Task> tasks = taskRepository.findByStatus(taskStatus);
-            logger.info("Retrieved {} tasks with status: {}", tasks.size(), status);
-            return tasks;
+            taskStatus = TaskStatus.valueOf(status.toUpperCase());
         } catch (IllegalArgumentException e) {
-            logger.error("Invalid task status: {}", status);
+            logger.warn("Invalid task status: {}", status);
             throw new IllegalArgumentException("Invalid task status: " + status);
-        } catch (DataAccessException e) {
-            logger.error("Database error fetching tasks by status {}: {}", status, e.getMessage());
-            return Collections.emptyList();
-        } catch (Exception e) {
-            logger.error("Unexpected error fetching tasks by status {}: {}", status, e.getMessage());
-            return Collections.emptyList();
         }
+        long userId = TenantContext.currentUserId();
+        List<Task> tasks = taskWriteBehind.overlay(userId, taskWorkingSet.findByStatus(userId, taskStatus)
+                .orElseGet(() -> readFlushed(userId, () -> taskStore.findByUserAndStatus(userId, taskStatus))));
+        logger.info("Retrieved {} tasks with status: {}", tasks.size(), status);
+        return tasks;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<Task> searchTasksByTitle(String title) {
-        try {
-            if (title == null || title.trim().isEmpty()) {
-                logger.warn("Search title cannot be null or empty");
-                throw new IllegalArgumentException("Search title cannot be null or empty");
-            }
-            
-            List<Task> tasks = taskRepository.findByTitleContainingIgnoreCase(title.trim());
-            logger.info("Found {} tasks matching title: {}", tasks.size(), title);
-            return tasks;
-        } catch (IllegalArgumentException e) {
-            logger.error("Validation error searching tasks: {}", e.getMessage());
-            throw e;
-        } catch (DataAccessException e) {
-            logger.error("Database error searching tasks by title {}: {}", title, e.getMessage());
-            return Collections.emptyList();
-        } catch (Exception e) {
-            logger.error("Unexpected error searching tasks by title {}: {}", title, e.getMessage());
-            return Collections.emptyList();
+        if (title == null || title.trim().isEmpty()) {
+            logger.warn("Search title cannot be null or empty");
+            throw new IllegalArgumentException("Search title cannot be null or empty");
         }
+        long userId = TenantContext.currentUserId();
+        List<Task> tasks = taskWriteBehind.overlay(userId,
+                readFlushed(userId, () -> taskStore.findByUserAndTitle(userId, title.trim())));
+        logger.info("Found {} tasks matching title: {}", tasks.size(), title);
+        return tasks;
     }
 
-    private void validateTask(Task task) {
-        try {
-            if (task == null) {
-                throw new IllegalArgumentException("Task cannot be null");
+    /**
+     * Runs a filtered database read in a read-only transaction after writing the tenant's pending
+     * updates, so a task moved by a write-behind update is matched by its new values, not the
+     * stored ones. Working-set reads need no flush: the working set already holds pending states.
+     */
+    private <T> T readFlushed(long userId, Supplier<T> read) {
+        taskWriteBehind.flush(userId);
+        return readOnlyTransactionTemplate.execute(status -> read.get());
+    }
+
+    // The pending state when a write-behind update is waiting, otherwise the cached or stored task
+    private Task findTask(long userId, Long id) {
+        Task pendingTask = taskWriteBehind.get(userId, id);
+        if (pendingTask != null) {
+            return pendingTask;
+        }
+        // A session reading its own recent writes skips the cache
+        if (ReadYourWrites.requiresPrimary()) {
+            return taskStore.findById(id, userId).orElse(null);
+        }
+        // Only primary reads fill the cache; a lagging replica's row could otherwise be served for the whole TTL
+        if (replicasEnabled && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Task cachedTask = taskCache.getIfPresent(userId, id);
+            return cachedTask != null ? cachedTask : taskStore.findById(id, userId).orElse(null);
+        }
+        return taskCache.get(userId, id, key -> taskStore.findById(key, userId).orElse(null));
+    }
+
+    private Task findTaskForWrite(Long id) {
+        return taskStore.findById(id, TenantContext.currentUserId())
+                .orElseThrow(() -> new TaskNotFoundException(id));
+    }
+
+    @Override
+    public TaskPage searchTasks(TaskSearchCriteria criteria) {
+        int pageSize = pageSize(criteria.getLimit());
+        if (criteria.getOffset() != null && criteria.getOffset() < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (criteria.getQuery() != null && TaskJdbcDao.tokenize(criteria.getQuery()).isEmpty()) {
+            throw new IllegalArgumentException("Search query must contain at least one word");
+        }
+        if (TaskJdbcDao.RELEVANCE.equals(criteria.getSort())) {
+            if (criteria.getQuery() == null) {
+                throw new IllegalArgumentException("Sort by relevance requires a search query");
             }
-            if (!StringUtils.hasText(task.getTitle())) {
-                throw new IllegalArgumentException("Task title cannot be empty");
+        } else if (!TaskFields.COLUMNS.containsKey(criteria.getSort())) {
+            throw new IllegalArgumentException("Invalid sort property: " + criteria.getSort());
+        }
+        boolean keysetSort = SORT_BY_ID.equals(criteria.getSort()) || SORT_BY_CREATED_AT.equals(criteria.getSort());
+        TaskCursor after = null;
+        if (StringUtils.hasText(criteria.getCursor())) {
+            if (!keysetSort) {
+                throw new IllegalArgumentException("Cursor paging requires sort by id or createdAt");
             }
-            if (task.getTitle().length() > 200) {
-                throw new IllegalArgumentException("Task title cannot exceed 200 characters");
+            if (criteria.getOffset() != null) {
+                throw new IllegalArgumentException("Use either cursor or offset, not both");
             }
-            if (task.getDescription() != null && task.getDescription().length() > 1000) {
-                throw new IllegalArgumentException("Task description cannot exceed 1000 characters");
+            after = TaskCursor.decode(criteria.getCursor());
+            if (SORT_BY_CREATED_AT.equals(criteria.getSort()) != (after.getCreatedAt() != null)) {
+                throw new IllegalArgumentException("Cursor does not match sort: " + criteria.getSort());
             }
-            if (task.getStatus() != null) {
-                try {
-                    TaskStatus.valueOf(task.getStatus().toString());
-                } catch (IllegalArgumentException e) {
-                    throw new IllegalArgumentException("Invalid task status: " + task.getStatus());
-                }
+        }
+
+        Set<String> fields = criteria.getFields() != null ? criteria.getFields() : TaskFields.COLUMNS.keySet();
+        for (String field : fields) {
+            if (!TaskFields.isKnown(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
             }
-            if (task.getPriority() != null && (task.getPriority() < 1 || task.getPriority() > 3)) {
-                throw new IllegalArgumentException("Priority must be between 1 and 3");
+        }
+        // The cursor is built from id (and createdAt) even when they are not projected
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        if (SORT_BY_CREATED_AT.equals(criteria.getSort())) {
+            columns.add("created_at");
+        }
+        columns.addAll(TaskFields.columnsFor(fields));
+
+        long userId = TenantContext.currentUserId();
+        criteria.setUserId(userId);
+        // Searches of active tasks of a resident tenant are answered from memory
+        TaskCursor cursor = after;
+        List<Task> rows = taskWorkingSet.search(criteria, after, pageSize + 1)
+                .orElseGet(() -> readFlushed(userId,
+                        () -> taskJdbcDao.searchTasks(criteria, columns, cursor, pageSize + 1)));
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            Task last = rows.get(pageSize - 1);
+            if (keysetSort) {
+                nextCursor = (SORT_BY_CREATED_AT.equals(criteria.getSort())
+                        ? TaskCursor.ofCreatedAt(last.getCreatedAt(), last.getId())
+                        : TaskCursor.ofId(last.getId())).encode();
+            }
+        }
+        logger.info("Search matched {} tasks", rows.size());
+        // Updates that arrived after the flush are overlaid like on unfiltered reads
+        return new TaskPage(taskWriteBehind.overlay(userId, rows), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getOverdueTasks(Integer limit) {
+        long userId = TenantContext.currentUserId();
+        List<Task> tasks = findInOrder(userId, taskDeadlineEngine.overdueIds(userId, pageSize(limit)));
+        logger.info("Retrieved {} overdue tasks", tasks.size());
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Task> getDueSoonTasks(Integer limit) {
+        long userId = TenantContext.currentUserId();
+        List<Task> tasks = findInOrder(userId, taskDeadlineEngine.dueSoonIds(userId, pageSize(limit)));
+        logger.info("Retrieved {} tasks due soon", tasks.size());
+        return tasks;
+    }
+
+    // Loads the tasks by primary key, keeping the order of ids
+    private List<Task> findInOrder(long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Optional<List<Task>> resident = taskWorkingSet.findAllById(userId, ids);
+        if (resident.isPresent()) {
+            return taskWriteBehind.overlay(userId, resident.get());
+        }
+        Map<Long, Task> byId = new HashMap<>();
+        taskStore.findAllById(ids).forEach(task -> byId.put(task.getId(), task));
+        return taskWriteBehind.overlay(userId, ids.stream().map(byId::get).filter(Objects::nonNull).toList());
+    }
+
+    private int pageSize(Integer limit) {
+        int pageSize = limit != null ? limit : defaultPageLimit;
+        if (pageSize < 1 || pageSize > maxPageLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageLimit);
+        }
+        return pageSize;
+    }
+
+    private void applyDefaults(Task task) {
+        if (task.getStatus() == null) {
+            task.setStatus(TaskStatus.TODO);
+            logger.debug("Set default status to TODO for new task");
+        }
+        if (task.getPriority() == null) {
+            task.setPriority(3); // Default to low priority
+            logger.debug("Set default priority to 3 for new task");
+        }
+        // Tasks always belong to the requesting tenant, whatever the body says
+        task.setUserId(TenantContext.currentUserId());
+    }
+
+    // Rejects writes that would take the tenant past its task quota
+    private void checkQuota(long userId, int adding) {
+        if (maxTasksPerUser <= 0 || adding == 0) {
+            return;
+        }
+        long owned = taskStore.countByUser(userId);
+        if (owned + adding > maxTasksPerUser) {
+            logger.warn("Tenant {} would exceed its quota of {} tasks ({} owned, {} requested)",
+                    userId, maxTasksPerUser, owned, adding);
+            throw new TenantQuotaExceededException("Task quota of " + maxTasksPerUser + " exceeded: "
+                    + owned + " tasks owned, " + adding + " requested");
+        }
+    }
+
+    // Records the changes in the outbox within the current transaction; once it commits they are
+    // pushed to event-stream subscribers and applied to the deadline index and working set
+    private void publishChanges(List<TaskChangeEvent> events) {
+        taskOutbox.append(events);
+        events.forEach(taskEventHub::publish);
+        taskDeadlineEngine.track(events);
+        taskWorkingSet.track(events);
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch cannot be empty");
+        }
+        if (items.size() > batchMaxItems) {
+            throw new IllegalArgumentException("Batch cannot exceed " + batchMaxItems + " items");
+        }
+    }
+
+    /**
+     * Writes {@code items} in chunks of {@code batchChunkSize}, each chunk in its own transaction.
+     * A failing chunk is rolled back and reported as FAILED without affecting the others.
+     * The writer returns per-row update counts, or {@code null} when every row is known to be written.
+     * Change events for the written rows are published in the chunk's transaction.
+     */
+    private <T> void writeInChunks(List<T> items, List<Integer> indexes, Function<List<T>, int[]> writer,
+                                   Function<T, Long> idOf, BatchItemResult.Outcome success,
+                                   Function<T, TaskChangeEvent> eventOf, BatchResult result) {
+        for (int from = 0; from < items.size(); from += batchChunkSize) {
+            int to = Math.min(from + batchChunkSize, items.size());
+            List<T> chunk = items.subList(from, to);
+            try {
+                int[] counts = transactionTemplate.execute(status -> {
+                    int[] written = writer.apply(chunk);
+                    List<TaskChangeEvent> events = new ArrayList<>(chunk.size());
+                    for (int k = 0; k < chunk.size(); k++) {
+                        if (written == null || written[k] != 0) {
+                            events.add(eventOf.apply(chunk.get(k)));
+                        }
+                    }
+                    publishChanges(events);
+                    return written;
+                });
+                for (int k = 0; k < chunk.size(); k++) {
+                    T item = chunk.get(k);
+                    boolean missing = counts != null && counts[k] == 0;
+                    result.add(new BatchItemResult(indexes.get(from + k), idOf.apply(item),
+                            missing ? BatchItemResult.Outcome.NOT_FOUND : success,
+                            missing ? "Task not found" : null));
+                }
+            } catch (DataAccessException e) {
+                logger.error("Database error writing batch chunk of {} items: {}", chunk.size(), e.getMessage());
+                for (int k = 0; k < chunk.size(); k++) {
+                    result.add(new BatchItemResult(indexes.get(from + k), idOf.apply(chunk.get(k)),
+                            BatchItemResult.Outcome.FAILED, "Database error: " + e.getMessage()));
+                }
             }
-            logger.debug("Task validation successful");
-        } catch (IllegalArgumentException e) {
-            logger.warn("Task validation failed: {}", e.getMessage());
-            throw e;
         }
     }
 }
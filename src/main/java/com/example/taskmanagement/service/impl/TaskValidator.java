@@ -0,0 +1,80 @@
+package com.example.taskmanagement.service.impl;
+
+import com.example.taskmanagement.dto.TaskPatch;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Validation rules shared by the single-task and batch write paths.
+ */
+@Component
+public class TaskValidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskValidator.class);
+
+    public void validate(Task task) {
+        try {
+            if (task == null) {
+                throw new IllegalArgumentException("Task cannot be null");
+            }
+            if (!StringUtils.hasText(task.getTitle())) {
+                throw new IllegalArgumentException("Task title cannot be empty");
+            }
+            if (task.getTitle().length() > 200) {
+                throw new IllegalArgumentException("Task title cannot exceed 200 characters");
+            }
+            if (task.getDescription() != null && task.getDescription().length() > 1000) {
+                throw new IllegalArgumentException("Task description cannot exceed 1000 characters");
+            }
+            if (task.getStatus() != null) {
+                try {
+                    TaskStatus.valueOf(task.getStatus().toString());
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid task status: " + task.getStatus());
+                }
+            }
+            if (task.getPriority() != null && (task.getPriority() < 1 || task.getPriority() > 3)) {
+                throw new IllegalArgumentException("Priority must be between 1 and 3");
+            }
+            logger.debug("Task validation successful");
+        } catch (IllegalArgumentException e) {
+            logger.warn("Task validation failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // Same rules as validate(Task), applied to the properties present in the patch
+    public void validate(TaskPatch patch) {
+        try {
+            if (patch.has("title")) {
+                String title = (String) patch.get("title");
+                if (!StringUtils.hasText(title)) {
+                    throw new IllegalArgumentException("Task title cannot be empty");
+                }
+                if (title.length() > 200) {
+                    throw new IllegalArgumentException("Task title cannot exceed 200 characters");
+                }
+            }
+            if (patch.get("description") != null && ((String) patch.get("description")).length() > 1000) {
+                throw new IllegalArgumentException("Task description cannot exceed 1000 characters");
+            }
+            if (patch.has("status") && patch.get("status") == null) {
+                throw new IllegalArgumentException("Task status cannot be null");
+            }
+            if (patch.has("priority")) {
+                Integer priority = (Integer) patch.get("priority");
+                if (priority == null || priority < 1 || priority > 3) {
+                    throw new IllegalArgumentException("Priority must be between 1 and 3");
+                }
+            }
+            logger.debug("Task patch validation successful");
+        } catch (IllegalArgumentException e) {
+            logger.warn("Task patch validation failed: {}", e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.taskmanagement.stats;
+
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import com.example.taskmanagement.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory task counters for the dashboard, kept per tenant so reads cost O(1) regardless of
+ * table size.
+ *
+ * <p>Status and priority counts are adjusted on every committed write, batch writes included, and
+ * periodically reconciled against GROUP BY queries to correct drift. Overdue and due-soon counts cover
+ * active tasks only, as the deadline lists do. They are taken against the clock of the last
+ * reconciliation and writes move them by the same rule, so completing an overdue task is reflected
+ * at once while a deadline passing is picked up by the next reconciliation. Reconciliation corrects
+ * each tenant's live counters in place and skips tenants written to while its queries ran, so a
+ * write applied in the meantime is never overwritten by counts taken before it.
+ */
+@Component
+// Dirty checks and reconciliation must run from startup, not from the first stats request
+@Lazy(false)
+public class TaskStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatistics.class);
+    private static final int MAX_PRIORITY = 3;
+
+    private final TaskRepository taskRepository;
+    private final Duration dueSoonWindow;
+
+    private final Map<Long, Counters> byUser = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile LocalDateTime reconciledAt;
+
+    public TaskStatistics(TaskRepository taskRepository,
+                          @Value("${app.tasks.stats.due-soon-window:24h}") Duration dueSoonWindow) {
+        this.taskRepository = taskRepository;
+        this.dueSoonWindow = dueSoonWindow;
+    }
+
+    public void recordCreated(Task task) {
+        Task created = task.copy();
+        afterCommit(() -> adjust(created.getUserId(), counters -> counters.adjust(created, 1)));
+    }
+
+    public void recordUpdated(Task previous, Task task) {
+        Task before = previous.copy();
+        Task after = task.copy();
+        afterCommit(() -> adjust(after.getUserId(), counters -> {
+            counters.adjust(before, -1);
+            counters.adjust(after, 1);
+        }));
+    }
+
+    public void recordDeleted(Task task) {
+        Task deleted = task.copy();
+        afterCommit(() -> adjust(deleted.getUserId(), counters -> counters.adjust(deleted, -1)));
+    }
+
+    // Batch form of recordUpdated: previous holds the rows as they were before the write, current
+    // the written rows by id; rows missing from current were not changed
+    public void recordUpdated(List<Task> previous, Map<Long, Task> current) {
+        List<Task> before = previous.stream().map(Task::copy).toList();
+        List<Task> after = before.stream().map(task -> current.getOrDefault(task.getId(), task).copy()).toList();
+        afterCommit(() -> {
+            for (int i = 0; i < before.size(); i++) {
+                Task previousTask = before.get(i);
+                Task currentTask = after.get(i);
+                adjust(previousTask.getUserId(), counters -> {
+                    counters.adjust(previousTask, -1);
+                    counters.adjust(currentTask, 1);
+                });
+            }
+        });
+    }
+
+    // Batch form of recordDeleted
+    public void recordDeleted(List<Task> tasks) {
+        List<Task> deleted = tasks.stream().map(Task::copy).toList();
+        afterCommit(() -> deleted.forEach(task -> adjust(task.getUserId(), counters -> counters.adjust(task, -1))));
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.stats.dirty-check-interval-ms:1000}")
+    public void reconcileIfDirty() {
+        if (dirty.getAndSet(false)) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.stats.reconcile-interval-ms:60000}",
+            initialDelayString = "${app.tasks.stats.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime dueSoonUntil = now.plus(dueSoonWindow);
+            Map<Long, Long> writesAtStart = new HashMap<>();
+            byUser.forEach((userId, counters) -> writesAtStart.put(userId, counters.writes()));
+            Map<Long, Counters> actual = new HashMap<>();
+            Function<Long, Counters> create = key -> new Counters(now, dueSoonUntil);
+            for (Object[] row : taskRepository.countTasksByUserAndStatus()) {
+                actual.computeIfAbsent(userIdOf(row), create).byStatus
+                        .get(TaskStatus.valueOf(String.valueOf(row[1]))).set(countOf(row));
+            }
+            for (Object[] row : taskRepository.countTasksByUserAndPriority()) {
+                int priority = ((Number) row[1]).intValue();
+                if (priority >= 1 && priority <= MAX_PRIORITY) {
+                    actual.computeIfAbsent(userIdOf(row), create).byPriority[priority].set(countOf(row));
+                }
+            }
+            for (Object[] row : taskRepository.countOverdueByUser(now)) {
+                actual.computeIfAbsent(userIdOf(row), create).overdue.set(countOf(row));
+            }
+            for (Object[] row : taskRepository.countActiveDueBetweenByUser(now, dueSoonUntil)) {
+                actual.computeIfAbsent(userIdOf(row), create).dueSoon.set(countOf(row));
+            }
+
+            // A delta applied while the queries ran may or may not be in their counts, so a tenant
+            // written to meanwhile keeps its live counters until the next reconciliation
+            long drift = 0;
+            int deferred = 0;
+            for (Map.Entry<Long, Counters> entry : actual.entrySet()) {
+                Counters live = byUser.putIfAbsent(entry.getKey(), entry.getValue());
+                if (live == null) {
+                    drift += entry.getValue().statusDrift(null);
+                    continue;
+                }
+                Long writes = writesAtStart.get(entry.getKey());
+                long corrected = writes != null ? live.correct(writes, entry.getValue()) : -1;
+                if (corrected < 0) {
+                    deferred++;
+                } else {
+                    drift += corrected;
+                }
+            }
+            // Tenants without rows are dropped
+            for (Map.Entry<Long, Counters> entry : byUser.entrySet()) {
+                if (actual.containsKey(entry.getKey())) {
+                    continue;
+                }
+                Long writes = writesAtStart.get(entry.getKey());
+                long corrected = writes != null ? entry.getValue().retire(writes) : -1;
+                if (corrected < 0) {
+                    deferred++;
+                } else {
+                    drift += corrected;
+                    byUser.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            reconciledAt = now;
+            if (drift > 0) {
+                logger.info("Reconciled task statistics for {} tenants, corrected status drift of {}",
+                        actual.size(), drift);
+            }
+            if (deferred > 0) {
+                logger.debug("Left the task statistics of {} tenants written to during reconciliation", deferred);
+            }
+        } catch (Exception e) {
+            dirty.set(true);
+            logger.error("Error reconciling task statistics: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> snapshot(long userId) {
+        Counters counters = byUser.getOrDefault(userId, new Counters(null, null));
+        Map<String, Object> statuses = new LinkedHashMap<>();
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            long count = counters.byStatus.get(status).get();
+            statuses.put(status.name(), count);
+            total += count;
+        }
+        Map<String, Object> priorities = new LinkedHashMap<>();
+        for (int i = 1; i <= MAX_PRIORITY; i++) {
+            priorities.put(String.valueOf(i), counters.byPriority[i].get());
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", total);
+        result.put("byStatus", statuses);
+        result.put("byPriority", priorities);
+        result.put("overdue", counters.overdue.get());
+        result.put("dueSoon", counters.dueSoon.get());
+        result.put("dueSoonWindowHours", dueSoonWindow.toHours());
+        result.put("reconciledAt", reconciledAt);
+        return result;
+    }
+
+    // Applies a committed write to the tenant's live counters, moving to fresh ones if
+    // reconciliation has just dropped them
+    private void adjust(Long userId, Consumer<Counters> delta) {
+        while (!counters(userId).apply(delta)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private Counters counters(Long userId) {
+        return byUser.computeIfAbsent(userId, key -> {
+            LocalDateTime asOf = reconciledAt;
+            return new Counters(asOf, asOf != null ? asOf.plus(dueSoonWindow) : null);
+        });
+    }
+
+    private static long userIdOf(Object[] row) {
+        return ((Number) row[0]).longValue();
+    }
+
+    private static long countOf(Object[] row) {
+        return ((Number) row[row.length - 1]).longValue();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // One tenant's counters. Writes and reconciliation change them under its lock; reads do not lock.
+    private static final class Counters {
+        private final Map<TaskStatus, AtomicLong> byStatus = new EnumMap<>(TaskStatus.class);
+        private final AtomicLong[] byPriority = new AtomicLong[MAX_PRIORITY + 1];
+        private final AtomicLong overdue = new AtomicLong();
+        private final AtomicLong dueSoon = new AtomicLong();
+        // The clock the overdue and due-soon counts were taken against; null before the first reconciliation
+        private LocalDateTime asOf;
+        private LocalDateTime dueSoonUntil;
+        // Writes applied so far, so reconciliation can tell whether one landed while it counted
+        private long writes;
+        private boolean retired;
+
+        Counters(LocalDateTime asOf, LocalDateTime dueSoonUntil) {
+            this.asOf = asOf;
+            this.dueSoonUntil = dueSoonUntil;
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, new AtomicLong());
+            }
+            for (int i = 0; i <= MAX_PRIORITY; i++) {
+                byPriority[i] = new AtomicLong();
+            }
+        }
+
+        synchronized boolean apply(Consumer<Counters> delta) {
+            if (retired) {
+                return false;
+            }
+            delta.accept(this);
+            writes++;
+            return true;
+        }
+
+        synchronized long writes() {
+            return writes;
+        }
+
+        // Takes the reconciled counts unless a write was applied after writes() returned expectedWrites.
+        // Returns the status drift corrected, or -1 when the counters were left as they are.
+        synchronized long correct(long expectedWrites, Counters actual) {
+            if (writes != expectedWrites) {
+                return -1;
+            }
+            long drift = statusDrift(actual);
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.get(status).set(actual != null ? actual.byStatus.get(status).get() : 0);
+            }
+            for (int i = 0; i <= MAX_PRIORITY; i++) {
+                byPriority[i].set(actual != null ? actual.byPriority[i].get() : 0);
+            }
+            overdue.set(actual != null ? actual.overdue.get() : 0);
+            dueSoon.set(actual != null ? actual.dueSoon.get() : 0);
+            if (actual != null) {
+                asOf = actual.asOf;
+                dueSoonUntil = actual.dueSoonUntil;
+            }
+            return drift;
+        }
+
+        // Zeroes the counters of a tenant without rows and stops further writes to them, so they can
+        // be dropped; -1 when a write was applied after writes() returned expectedWrites
+        synchronized long retire(long expectedWrites) {
+            long drift = correct(expectedWrites, null);
+            if (drift >= 0) {
+                retired = true;
+            }
+            return drift;
+        }
+
+        void adjust(Task task, int delta) {
+            adjust(task.getStatus(), task.getPriority(), delta);
+            LocalDateTime deadline = task.getDeadline();
+            if (asOf == null || deadline == null
+                    || task.getStatus() == TaskStatus.COMPLETED || task.getStatus() == TaskStatus.CANCELLED) {
+                return;
+            }
+            if (deadline.isBefore(asOf)) {
+                overdue.addAndGet(delta);
+            } else if (deadline.isBefore(dueSoonUntil)) {
+                dueSoon.addAndGet(delta);
+            }
+        }
+
+        void adjust(TaskStatus status, Integer priority, int delta) {
+            if (status != null) {
+                byStatus.get(status).addAndGet(delta);
+            }
+            if (priority != null && priority >= 1 && priority <= MAX_PRIORITY) {
+                byPriority[priority].addAndGet(delta);
+            }
+        }
+
+        long statusDrift(Counters actual) {
+            long drift = 0;
+            for (TaskStatus status : TaskStatus.values()) {
+                long expected = actual != null ? actual.byStatus.get(status).get() : 0;
+                drift += Math.abs(byStatus.get(status).get() - expected);
+            }
+            return drift;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.taskmanagement.tenant;
+
+/**
+ * The tenant (owning {@code userId}) the current thread works for, bound per request by
+ * {@link TenantFilter}. Code running outside a request, such as benchmarks and background
+ * jobs, works for the default single-user tenant.
+ */
+public final class TenantContext {
+
+    // Owner of every task in single-user mode, matching Task's default userId
+    public static final long DEFAULT_USER_ID = 1L;
+
+    private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static long currentUserId() {
+        Long userId = CURRENT.get();
+        return userId != null ? userId : DEFAULT_USER_ID;
+    }
+
+    public static void set(long userId) {
+        CURRENT.set(userId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.taskmanagement.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Binds the tenant of each API request from the tenant header ({@code X-User-Id} by default).
+ * Requests without the header work for {@code app.tenancy.default-user-id} unless the header
+ * is required. The header is trusted as is; it is meant to be set by an authenticating gateway.
+ */
+@Component
+@Order(TenantFilter.ORDER)
+public class TenantFilter extends OncePerRequestFilter {
+
+    // Runs ahead of the application filters that read the tenant
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final ObjectMapper objectMapper;
+    private final String headerName;
+    private final boolean required;
+    private final long defaultUserId;
+
+    public TenantFilter(ObjectMapper objectMapper,
+                        @Value("${app.tenancy.header:X-User-Id}") String headerName,
+                        @Value("${app.tenancy.required:false}") boolean required,
+                        @Value("${app.tenancy.default-user-id:1}") long defaultUserId) {
+        this.objectMapper = objectMapper;
+        this.headerName = headerName;
+        this.required = required;
+        this.defaultUserId = defaultUserId;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(headerName);
+        long userId;
+        if (StringUtils.hasText(header)) {
+            try {
+                userId = Long.parseLong(header.trim());
+            } catch (NumberFormatException e) {
+                userId = 0;
+            }
+            if (userId <= 0) {
+                reject(response, headerName + " must be a positive number");
+                return;
+            }
+        } else if (required) {
+            reject(response, headerName + " header is required");
+            return;
+        } else {
+            userId = defaultUserId;
+        }
+
+        TenantContext.set(userId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void reject(HttpServletResponse response, String message) throws IOException {
+        Map<String, String> error = new LinkedHashMap<>();
+        error.put("error", "Invalid tenant");
+        error.put("message", message);
+        response.setStatus(HttpStatus.BAD_REQUEST.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.taskmanagement.tenant;
+
+/**
+ * Thrown when a write would take a tenant past {@code app.tenancy.max-tasks-per-user}.
+ */
+public class TenantQuotaExceededException extends RuntimeException {
+
+    public TenantQuotaExceededException(String message) {
+        super(message);
+    }
+}
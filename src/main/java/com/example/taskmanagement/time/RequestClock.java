@@ -0,0 +1,29 @@
+package com.example.taskmanagement.time;
+
+import java.time.LocalDateTime;
+
+/**
+ * The instant the current API request is served at, bound by {@link RequestClockFilter}, so the
+ * computed deadline properties of every task in a response, and its ETag, agree on one "now".
+ * Outside a request each call reads the system clock.
+ */
+public final class RequestClock {
+
+    private static final ThreadLocal<LocalDateTime> CURRENT = new ThreadLocal<>();
+
+    private RequestClock() {
+    }
+
+    public static LocalDateTime now() {
+        LocalDateTime now = CURRENT.get();
+        return now != null ? now : LocalDateTime.now();
+    }
+
+    public static void set(LocalDateTime now) {
+        CURRENT.set(now);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
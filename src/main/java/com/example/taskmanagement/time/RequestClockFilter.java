@@ -0,0 +1,38 @@
+package com.example.taskmanagement.time;
+
+import com.example.taskmanagement.tenant.TenantFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Reads the clock once per API request and binds it to {@link RequestClock}.
+ */
+@Component
+@Order(TenantFilter.ORDER - 1)
+public class RequestClockFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestClock.set(LocalDateTime.now());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestClock.clear();
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package com.example.taskmanagement.workingset;
+
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.events.TaskChangeEvent;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import com.example.taskmanagement.repository.TaskJdbcDao;
+import com.example.taskmanagement.time.RequestClock;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds every active task of as many tenants as fit in {@code max-tasks}, indexed by status,
+ * priority and deadline, so listing a tenant's open tasks and filtered searches over them are
+ * answered from memory instead of the table.
+ *
+ * <p>Tenants are loaded whole, in user id order, until the budget is reached; the rest stay
+ * cold and are served from the database. Committed change events keep the resident tenants
+ * current and a periodic resync picks up writes made by other processes. Every lookup returns
+ * an empty {@link Optional} when it cannot be answered here, and the caller queries instead.
+ * Resident instances are shared between requests and must be treated as read-only.
+ */
+@Component
+public class TaskWorkingSet implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskWorkingSet.class);
+    private static final Set<TaskStatus> ACTIVE = EnumSet.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS);
+    private static final TenantTasks EMPTY = new TenantTasks();
+    private static final long LOAD_RETRY_MILLIS = 10_000;
+
+    private final TaskJdbcDao taskJdbcDao;
+    private final boolean enabled;
+    private final long maxTasks;
+    private final long resyncIntervalMillis;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("task-working-set").daemon().unstarted(runnable));
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guarded by lock
+    private Long2ObjectOpenHashMap<TenantTasks> tenants = new Long2ObjectOpenHashMap<>();
+    private long size;
+    // Tenants from this user id up did not fit; cold tenants lost track of a change until the next resync
+    private long coldFrom = Long.MIN_VALUE;
+    private final LongOpenHashSet cold = new LongOpenHashSet();
+    // Tasks changed while a load was reading
+    private Map<Long, Change> changedDuringLoad;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public TaskWorkingSet(TaskJdbcDao taskJdbcDao,
+                          @Value("${app.tasks.working-set.enabled:false}") boolean enabled,
+                          @Value("${app.tasks.working-set.max-tasks:200000}") long maxTasks,
+                          @Value("${app.tasks.working-set.resync-interval-ms:600000}") long resyncIntervalMillis) {
+        this.taskJdbcDao = taskJdbcDao;
+        this.enabled = enabled;
+        this.maxTasks = maxTasks;
+        this.resyncIntervalMillis = resyncIntervalMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            executor.execute(this::load);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // Applies the changes once the surrounding transaction commits
+    public void track(List<TaskChangeEvent> events) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(events);
+                }
+            });
+        } else {
+            apply(events);
+        }
+    }
+
+    // The tenant's tasks in the status, in id order; only active statuses are held
+    public Optional<List<Task>> findByStatus(long userId, TaskStatus status) {
+        if (!ACTIVE.contains(status)) {
+            return Optional.empty();
+        }
+        return read(userId, tasks -> tasks.findByStatus(status));
+    }
+
+    /**
+     * Runs a search of the tenant in {@code criteria} that has no text query and is limited to
+     * active statuses, with the same filters, order and paging as the SQL search.
+     */
+    public Optional<List<Task>> search(TaskSearchCriteria criteria, TaskCursor after, int limit) {
+        if (criteria.getQuery() != null || criteria.getStatuses() == null || criteria.getStatuses().isEmpty()
+                || !ACTIVE.containsAll(criteria.getStatuses())) {
+            return Optional.empty();
+        }
+        return read(criteria.getUserId(), tasks -> tasks.search(criteria, after, limit, RequestClock.now()));
+    }
+
+    // The tenant's tasks in the order of ids, when every one of them is resident
+    public Optional<List<Task>> findAllById(long userId, List<Long> ids) {
+        return read(userId, tasks -> {
+            List<Task> found = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Task task = tasks.get(id);
+                if (task == null) {
+                    return null;
+                }
+                found.add(task);
+            }
+            return found;
+        });
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.working-set.size", this, workingSet -> workingSet.locked(() -> workingSet.size))
+                .description("Active tasks held in the working set")
+                .register(registry);
+        Gauge.builder("tasks.working-set.tenants", this,
+                        workingSet -> workingSet.locked(() -> workingSet.tenants.size()))
+                .description("Tenants whose active tasks are held in the working set")
+                .register(registry);
+        FunctionCounter.builder("tasks.working-set.lookups", hits, AtomicLong::get)
+                .description("Task reads by whether the working set answered them")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("tasks.working-set.lookups", fallbacks, AtomicLong::get)
+                .description("Task reads by whether the working set answered them")
+                .tag("result", "fallback")
+                .register(registry);
+    }
+
+    // Answers from the tenant's tasks when resident; a null answer also falls back
+    private <T> Optional<T> read(long userId, Function<TenantTasks, T> query) {
+        T answer = null;
+        if (enabled) {
+            lock.readLock().lock();
+            try {
+                if (isResident(userId)) {
+                    answer = query.apply(tenants.getOrDefault(userId, EMPTY));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        (answer != null ? hits : fallbacks).incrementAndGet();
+        return Optional.ofNullable(answer);
+    }
+
+    // Loads, then schedules the next resync, or a retry sooner when the load failed
+    private void load() {
+        boolean loaded = false;
+        try {
+            loaded = reload();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Unexpected error loading the task working set: {}", e.getMessage());
+        } finally {
+            if (!executor.isShutdown()) {
+                executor.schedule(this::load, loaded ? resyncIntervalMillis : LOAD_RETRY_MILLIS,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    // Streams every active task into fresh structures and swaps them in, keeping changes made meanwhile
+    private boolean reload() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        Long2ObjectOpenHashMap<TenantTasks> loaded = new Long2ObjectOpenHashMap<>();
+        long[] loadedSize = {0};
+        long[] full = {Long.MAX_VALUE};
+        long started = System.currentTimeMillis();
+        try {
+            taskJdbcDao.streamActiveTasks(task -> {
+                long userId = task.getUserId();
+                if (userId >= full[0]) {
+                    return;
+                }
+                if (loadedSize[0] >= maxTasks) {
+                    // The tenant being read does not fit whole, so it and every later one stay cold
+                    TenantTasks partial = loaded.remove(userId);
+                    loadedSize[0] -= partial != null ? partial.size() : 0;
+                    full[0] = userId;
+                    return;
+                }
+                loadedSize[0] += loaded.computeIfAbsent(userId, key -> new TenantTasks()).put(task);
+            });
+        } catch (DataAccessException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            logger.error("Error loading the task working set: {}", e.getMessage());
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            boolean first = coldFrom == Long.MIN_VALUE;
+            tenants = loaded;
+            size = loadedSize[0];
+            coldFrom = full[0];
+            cold.clear();
+            changedDuringLoad.forEach((id, change) -> {
+                if (change.task() != null) {
+                    upsert(change.task());
+                } else {
+                    remove(change.userId(), id);
+                }
+            });
+            changedDuringLoad = null;
+            enforceBudget();
+            if (first) {
+                logger.info("Task working set loaded {} active tasks of {} tenants in {} ms{}", size, tenants.size(),
+                        System.currentTimeMillis() - started,
+                        coldFrom != Long.MAX_VALUE ? "; tenants from user " + coldFrom + " stay cold" : "");
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return true;
+    }
+
+    private void apply(List<TaskChangeEvent> events) {
+        // Partial writes carry only the changed properties, so their rows are read back
+        List<Long> reloads = new ArrayList<>();
+        for (TaskChangeEvent event : events) {
+            if (event.getTask() == null && event.getType() == TaskChangeEvent.Type.UPDATED) {
+                reloads.add(event.getTaskId());
+            }
+        }
+        List<Task> reloaded = List.of();
+        boolean reloadFailed = false;
+        if (!reloads.isEmpty()) {
+            try {
+                reloaded = taskJdbcDao.findTasks(reloads);
+            } catch (DataAccessException e) {
+                logger.error("Error reloading {} tasks into the working set: {}", reloads.size(), e.getMessage());
+                reloadFailed = true;
+            }
+        }
+        Map<Long, Task> rows = new HashMap<>();
+        reloaded.forEach(row -> rows.put(row.getId(), row));
+
+        lock.writeLock().lock();
+        try {
+            for (TaskChangeEvent event : events) {
+                Task task = event.getTask();
+                switch (event.getType()) {
+                    case CREATED, UPDATED -> {
+                        if (task == null) {
+                            task = rows.get(event.getTaskId());
+                        }
+                        if (task != null) {
+                            record(event.getTaskId(), new Change(task.getUserId(), task));
+                            upsert(task);
+                        } else if (reloadFailed) {
+                            // The new state is unknown, so the tenant is read from the table until the resync
+                            evict(event.getUserId());
+                            cold.add(event.getUserId().longValue());
+                        } else {
+                            // The row is gone
+                            record(event.getTaskId(), new Change(event.getUserId(), null));
+                            remove(event.getUserId(), event.getTaskId());
+                        }
+                    }
+                    case DELETED -> {
+                        record(event.getTaskId(), new Change(event.getUserId(), null));
+                        remove(event.getUserId(), event.getTaskId());
+                    }
+                    default -> {
+                    }
+                }
+            }
+            enforceBudget();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void record(Long id, Change change) {
+        if (changedDuringLoad != null) {
+            Change latest = changedDuringLoad.get(id);
+            if (change.task() == null || latest == null || latest.task() == null
+                    || !isOlder(change.task(), latest.task())) {
+                changedDuringLoad.put(id, change);
+            }
+        }
+    }
+
+    // Places an active task in its tenant, unless a newer version is already there
+    private void upsert(Task task) {
+        long userId = task.getUserId();
+        if (!ACTIVE.contains(task.getStatus())) {
+            remove(userId, task.getId());
+            return;
+        }
+        if (!isResident(userId)) {
+            return;
+        }
+        task = asStored(task);
+        TenantTasks tasks = tenants.computeIfAbsent(userId, key -> new TenantTasks());
+        Task current = tasks.get(task.getId());
+        if (current == null || !isOlder(task, current)) {
+            size += tasks.put(task);
+        }
+    }
+
+    private void remove(long userId, long id) {
+        TenantTasks tasks = tenants.get(userId);
+        if (tasks != null) {
+            size += tasks.remove(id);
+        }
+    }
+
+    // Evicts the highest tenants until the working set fits its budget again
+    private void enforceBudget() {
+        while (size > maxTasks && !tenants.isEmpty()) {
+            long highest = tenants.keySet().longStream().max().getAsLong();
+            evict(highest);
+            coldFrom = Math.min(coldFrom, highest);
+        }
+    }
+
+    private void evict(long userId) {
+        TenantTasks evicted = tenants.remove(userId);
+        if (evicted != null) {
+            size -= evicted.size();
+        }
+    }
+
+    private boolean isResident(long userId) {
+        return userId < coldFrom && !cold.contains(userId);
+    }
+
+    // Writers hold timestamps in nanoseconds while DATETIME(6) rounds them to the microsecond; resident
+    // tasks keep the stored values so their order, filters and cursors agree with the table
+    private static Task asStored(Task task) {
+        if (isStored(task.getCreatedAt()) && isStored(task.getUpdatedAt()) && isStored(task.getDeadline())) {
+            return task;
+        }
+        Task stored = task.copy();
+        stored.setCreatedAt(toMicros(task.getCreatedAt()));
+        stored.setUpdatedAt(toMicros(task.getUpdatedAt()));
+        stored.setDeadline(toMicros(task.getDeadline()));
+        return stored;
+    }
+
+    private static boolean isStored(LocalDateTime time) {
+        return time == null || time.getNano() % 1_000 == 0;
+    }
+
+    private static LocalDateTime toMicros(LocalDateTime time) {
+        return time != null ? time.plusNanos(500).truncatedTo(ChronoUnit.MICROS) : null;
+    }
+
+    private static boolean isOlder(Task task, Task than) {
+        return task.getVersion() != null && than.getVersion() != null && task.getVersion() < than.getVersion();
+    }
+
+    private <T> T locked(Supplier<T> value) {
+        lock.readLock().lock();
+        try {
+            return value.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A task's latest state, null once deleted
+    private record Change(long userId, Task task) {
+    }
+}
@@ -0,0 +1,378 @@
+package com.example.taskmanagement.workingset;
+
+import com.example.taskmanagement.dto.TaskCursor;
+import com.example.taskmanagement.dto.TaskSearchCriteria;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.model.TaskStatus;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectRBTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongBidirectionalIterator;
+import it.unimi.dsi.fastutil.longs.LongCollection;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongIterators;
+import it.unimi.dsi.fastutil.longs.LongRBTreeSet;
+import it.unimi.dsi.fastutil.longs.LongSortedSet;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * One tenant's active tasks keyed by id, with secondary indexes from status, priority and
+ * deadline to ids. Not thread-safe; {@link TaskWorkingSet} guards every access.
+ */
+final class TenantTasks {
+
+    // Sort keys with the database's ordering: statuses as their stored names, text ignoring case
+    private static final Map<String, Function<Task, Comparable<?>>> SORT_KEYS = Map.ofEntries(
+            Map.entry("id", Task::getId),
+            Map.entry("title", task -> lowerCase(task.getTitle())),
+            Map.entry("description", task -> lowerCase(task.getDescription())),
+            Map.entry("status", task -> task.getStatus().name()),
+            Map.entry("createdAt", Task::getCreatedAt),
+            Map.entry("updatedAt", Task::getUpdatedAt),
+            Map.entry("deadline", Task::getDeadline),
+            Map.entry("priority", Task::getPriority),
+            Map.entry("userId", Task::getUserId),
+            Map.entry("assignedTo", task -> lowerCase(task.getAssignedTo())),
+            Map.entry("estimatedHours", Task::getEstimatedHours),
+            Map.entry("actualHours", Task::getActualHours),
+            Map.entry("attachmentUrl", task -> lowerCase(task.getAttachmentUrl())),
+            Map.entry("attachmentFilename", task -> lowerCase(task.getAttachmentFilename())),
+            Map.entry("version", Task::getVersion));
+
+    // Below this many candidates per result a filtered scan beats walking an index in sort order
+    private static final int SELECTIVE_CANDIDATES_PER_RESULT = 16;
+
+    private final Long2ObjectOpenHashMap<Task> byId = new Long2ObjectOpenHashMap<>();
+    private final LongSortedSet ids = new LongRBTreeSet();
+    private final Map<TaskStatus, LongSortedSet> byStatus = new EnumMap<>(TaskStatus.class);
+    private final Int2ObjectOpenHashMap<LongSortedSet> byPriority = new Int2ObjectOpenHashMap<>();
+    // Keyed by the deadline in microseconds, the precision of the column
+    private final Long2ObjectRBTreeMap<LongSortedSet> byDeadline = new Long2ObjectRBTreeMap<>();
+    private final LongSortedSet withoutDeadline = new LongRBTreeSet();
+
+    int size() {
+        return byId.size();
+    }
+
+    Task get(long id) {
+        return byId.get(id);
+    }
+
+    // Adds or replaces the task; returns the change in size
+    int put(Task task) {
+        Task previous = byId.put(task.getId().longValue(), task);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(task);
+        return previous != null ? 0 : 1;
+    }
+
+    // Returns the change in size
+    int remove(long id) {
+        Task previous = byId.remove(id);
+        if (previous == null) {
+            return 0;
+        }
+        unindex(previous);
+        return -1;
+    }
+
+    List<Task> findByStatus(TaskStatus status) {
+        LongSortedSet inStatus = byStatus.get(status);
+        List<Task> tasks = new ArrayList<>(inStatus != null ? inStatus.size() : 0);
+        if (inStatus != null) {
+            inStatus.forEach(id -> tasks.add(byId.get(id)));
+        }
+        return tasks;
+    }
+
+    /**
+     * Evaluates a search without a text query the way {@link com.example.taskmanagement.repository.TaskJdbcDao}
+     * does. Sorted by id or deadline, the matching index is walked in order until the page is full;
+     * otherwise, or when the filters leave few candidates, the smallest index that applies is
+     * filtered and the first {@code offset + limit} matches are kept in a bounded heap.
+     */
+    List<Task> search(TaskSearchCriteria criteria, TaskCursor after, int limit, LocalDateTime now) {
+        int skip = after == null && criteria.getOffset() != null ? criteria.getOffset() : 0;
+        int keep = skip + limit;
+        LocalDateTime to = Boolean.TRUE.equals(criteria.getOverdue())
+                ? min(criteria.getDeadlineTo(), now) : criteria.getDeadlineTo();
+        if (criteria.getDeadlineFrom() != null && to != null && !criteria.getDeadlineFrom().isBefore(to)) {
+            return List.of();
+        }
+        LongIterator inOrder = inOrder(criteria, after, to);
+        if (inOrder != null && estimateCandidates(criteria) > (long) keep * SELECTIVE_CANDIDATES_PER_RESULT) {
+            List<Task> page = new ArrayList<>(limit);
+            int skipped = 0;
+            while (inOrder.hasNext() && page.size() < limit) {
+                Task task = byId.get(inOrder.nextLong());
+                if (matches(task, criteria, now)) {
+                    if (skipped < skip) {
+                        skipped++;
+                    } else {
+                        page.add(task);
+                    }
+                }
+            }
+            return page;
+        }
+
+        Comparator<Task> order = order(criteria.getSort(), criteria.isDescending());
+        // Holds the best matches so far with the worst on top
+        PriorityQueue<Task> best = new PriorityQueue<>(Math.min(keep, 1024) + 1, order.reversed());
+        for (long id : candidates(criteria, to)) {
+            Task task = byId.get(id);
+            if (!matches(task, criteria, now) || (after != null && !isAfter(task, after, criteria.isDescending()))) {
+                continue;
+            }
+            best.add(task);
+            if (best.size() > keep) {
+                best.poll();
+            }
+        }
+        List<Task> sorted = new ArrayList<>(best);
+        sorted.sort(order);
+        return sorted.subList(Math.min(skip, sorted.size()), sorted.size());
+    }
+
+    // Ids in sort order from the index that keeps it, starting after the cursor; null for other sorts
+    private LongIterator inOrder(TaskSearchCriteria criteria, TaskCursor after, LocalDateTime to) {
+        boolean descending = criteria.isDescending();
+        if ("id".equals(criteria.getSort())) {
+            LongSortedSet range = ids;
+            if (after != null) {
+                range = descending ? ids.headSet(after.getId()) : ids.tailSet(after.getId() + 1);
+            }
+            return iterate(range, descending);
+        }
+        if ("deadline".equals(criteria.getSort())) {
+            LongIterator withDeadline = flatten(deadlineRange(criteria.getDeadlineFrom(), to), descending);
+            if (criteria.getDeadlineFrom() != null || to != null) {
+                return withDeadline;
+            }
+            // Tasks without a deadline sort first ascending, as NULLs do in MySQL
+            LongIterator withoutDeadlines = iterate(withoutDeadline, descending);
+            return descending ? LongIterators.concat(withDeadline, withoutDeadlines)
+                    : LongIterators.concat(withoutDeadlines, withDeadline);
+        }
+        return null;
+    }
+
+    // Size of the smaller of the status and priority indexes that apply, without reading them
+    private long estimateCandidates(TaskSearchCriteria criteria) {
+        long estimate = criteria.getStatuses().stream().map(byStatus::get).mapToLong(TenantTasks::sizeOf).sum();
+        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()) {
+            estimate = Math.min(estimate, priorityIndexes(criteria).mapToLong(TenantTasks::sizeOf).sum());
+        }
+        return estimate;
+    }
+
+    // Unboxed first, so the lookups use the primitive get(int)
+    private Stream<LongSortedSet> priorityIndexes(TaskSearchCriteria criteria) {
+        return criteria.getPriorities().stream().mapToInt(Integer::intValue).mapToObj(byPriority::get);
+    }
+
+    // Ids of the smallest index range covering the filters
+    private LongCollection candidates(TaskSearchCriteria criteria, LocalDateTime to) {
+        LongCollection smallest = union(criteria.getStatuses().stream().map(byStatus::get).toList());
+        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()) {
+            LongCollection byPriorities = union(priorityIndexes(criteria).toList());
+            if (byPriorities.size() < smallest.size()) {
+                smallest = byPriorities;
+            }
+        }
+        if (criteria.getDeadlineFrom() != null || to != null) {
+            Long2ObjectSortedMap<LongSortedSet> range = deadlineRange(criteria.getDeadlineFrom(), to);
+            // Stops as soon as the range is no longer the smallest candidate set
+            LongArrayList inRange = new LongArrayList();
+            for (LongSortedSet ids : range.values()) {
+                inRange.addAll(ids);
+                if (inRange.size() >= smallest.size()) {
+                    return smallest;
+                }
+            }
+            return inRange;
+        }
+        return smallest;
+    }
+
+    private Long2ObjectSortedMap<LongSortedSet> deadlineRange(LocalDateTime from, LocalDateTime to) {
+        Long2ObjectSortedMap<LongSortedSet> range = byDeadline;
+        if (from != null) {
+            range = range.tailMap(micros(from));
+        }
+        if (to != null) {
+            range = range.headMap(micros(to));
+        }
+        return range;
+    }
+
+    // Walks a sorted set either way without copying it
+    private static LongIterator iterate(LongSortedSet set, boolean descending) {
+        if (!descending || set.isEmpty()) {
+            return set.iterator();
+        }
+        LongBidirectionalIterator backwards = set.iterator(set.lastLong());
+        return new LongIterator() {
+            @Override
+            public boolean hasNext() {
+                return backwards.hasPrevious();
+            }
+
+            @Override
+            public long nextLong() {
+                return backwards.previousLong();
+            }
+        };
+    }
+
+    // The ids of every set in key order, or reversed, one set at a time
+    private static LongIterator flatten(Long2ObjectSortedMap<LongSortedSet> sets, boolean descending) {
+        LongIterator keys = iterate(sets.keySet(), descending);
+        return new LongIterator() {
+            private LongIterator current = LongIterators.EMPTY_ITERATOR;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext() && keys.hasNext()) {
+                    current = iterate(sets.get(keys.nextLong()), descending);
+                }
+                return current.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.nextLong();
+            }
+        };
+    }
+
+    private static long sizeOf(LongSortedSet ids) {
+        return ids != null ? ids.size() : 0;
+    }
+
+    private static LongCollection union(List<LongSortedSet> sets) {
+        LongArrayList ids = new LongArrayList();
+        for (LongSortedSet set : sets) {
+            if (set != null) {
+                ids.addAll(set);
+            }
+        }
+        return ids;
+    }
+
+    // Same predicates as the SQL search; text comparisons ignore case as MySQL's collation does
+    private static boolean matches(Task task, TaskSearchCriteria criteria, LocalDateTime now) {
+        if (criteria.getTitle() != null && !lowerCase(task.getTitle()).contains(lowerCase(criteria.getTitle()))) {
+            return false;
+        }
+        if (!criteria.getStatuses().contains(task.getStatus())) {
+            return false;
+        }
+        if (criteria.getPriorities() != null && !criteria.getPriorities().isEmpty()
+                && !criteria.getPriorities().contains(task.getPriority())) {
+            return false;
+        }
+        LocalDateTime deadline = task.getDeadline();
+        if (criteria.getDeadlineFrom() != null && (deadline == null || deadline.isBefore(criteria.getDeadlineFrom()))) {
+            return false;
+        }
+        if (criteria.getDeadlineTo() != null && (deadline == null || !deadline.isBefore(criteria.getDeadlineTo()))) {
+            return false;
+        }
+        if (criteria.getAssignedTo() != null && !criteria.getAssignedTo().equalsIgnoreCase(task.getAssignedTo())) {
+            return false;
+        }
+        if (criteria.getOverdue() != null) {
+            boolean overdue = deadline != null && deadline.isBefore(now);
+            return overdue == criteria.getOverdue();
+        }
+        return true;
+    }
+
+    private static boolean isAfter(Task task, TaskCursor after, boolean descending) {
+        int comparison = 0;
+        if (after.getCreatedAt() != null) {
+            comparison = task.getCreatedAt().compareTo(after.getCreatedAt());
+        }
+        if (comparison == 0) {
+            comparison = task.getId().compareTo(after.getId());
+        }
+        return descending ? comparison < 0 : comparison > 0;
+    }
+
+    // Nulls first ascending and last descending, like MySQL; ties broken by id in the same direction
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Task> order(String sort, boolean descending) {
+        Function<Task, Comparable> key = (Function) SORT_KEYS.get(sort);
+        Comparator<Task> ascending = Comparator.comparing(key, Comparator.nullsFirst(Comparator.naturalOrder()));
+        ascending = ascending.thenComparing(Task::getId);
+        return descending ? ascending.reversed() : ascending;
+    }
+
+    private void index(Task task) {
+        long id = task.getId();
+        ids.add(id);
+        byStatus.computeIfAbsent(task.getStatus(), status -> new LongRBTreeSet()).add(id);
+        byPriority.computeIfAbsent(task.getPriority().intValue(), priority -> new LongRBTreeSet()).add(id);
+        if (task.getDeadline() != null) {
+            byDeadline.computeIfAbsent(micros(task.getDeadline()), deadline -> new LongRBTreeSet()).add(id);
+        } else {
+            withoutDeadline.add(id);
+        }
+    }
+
+    private void unindex(Task task) {
+        long id = task.getId();
+        ids.remove(id);
+        removeFrom(byStatus.get(task.getStatus()), id);
+        removeFrom(byPriority.get(task.getPriority().intValue()), id);
+        if (task.getDeadline() != null) {
+            long deadline = micros(task.getDeadline());
+            if (removeFrom(byDeadline.get(deadline), id)) {
+                byDeadline.remove(deadline);
+            }
+        } else {
+            withoutDeadline.remove(id);
+        }
+    }
+
+    // Returns whether the set is now empty
+    private static boolean removeFrom(LongSortedSet ids, long id) {
+        if (ids == null) {
+            return false;
+        }
+        ids.remove(id);
+        return ids.isEmpty();
+    }
+
+    private static long micros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a == null || b.isBefore(a) ? b : a;
+    }
+
+    private static String lowerCase(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+}
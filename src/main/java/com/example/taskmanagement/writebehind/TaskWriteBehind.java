@@ -0,0 +1,432 @@
+package com.example.taskmanagement.writebehind;
+
+import com.example.taskmanagement.cache.TaskCache;
+import com.example.taskmanagement.events.TaskChangeEvent;
+import com.example.taskmanagement.model.Task;
+import com.example.taskmanagement.outbox.TaskOutbox;
+import com.example.taskmanagement.repository.TaskJdbcDao;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Opt-in write-behind for full task updates. Each update is journaled and kept in memory as the
+ * task's pending state; later updates to the same task replace it, so a burst of updates costs a
+ * single row write. A background thread writes all pending states in one JDBC batch every
+ * {@code flush-interval-ms}, or as soon as {@code max-pending} tasks are waiting, and records
+ * them in the outbox in the same transaction.
+ *
+ * <p>The journal is an append-only file of JSON lines, forced to disk before an update is
+ * acknowledged, rewritten to the still-pending states after each flush and replayed at startup.
+ * A flush sets the version clients were given and skips rows already at or past it, so a
+ * replayed state never undoes a later write. When a batch fails the tasks are written one at a
+ * time, and a state that cannot be written on its own is logged and dropped so it cannot hold
+ * back the rest of the queue. Enable it on a single instance per database.
+ */
+@Component
+public class TaskWriteBehind implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskWriteBehind.class);
+
+    private final TaskJdbcDao taskJdbcDao;
+    private final TaskOutbox taskOutbox;
+    private final TaskCache taskCache;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long flushIntervalMillis;
+    private final int maxPending;
+    private final Path journalPath;
+    private final Map<Key, Task> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Held across the journal fsync; a ReentrantLock does not pin virtual request threads as synchronized would
+    private final ReentrantLock journalLock = new ReentrantLock();
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            runnable -> Thread.ofPlatform().name("task-write-behind").daemon().unstarted(runnable));
+
+    private FileChannel journal;
+    private Counter coalesced;
+    private Counter written;
+    private Counter skipped;
+    private Counter rejected;
+
+    public TaskWriteBehind(TaskJdbcDao taskJdbcDao, TaskOutbox taskOutbox, TaskCache taskCache,
+                           ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                           @Value("${app.tasks.write-behind.enabled:false}") boolean enabled,
+                           @Value("${app.tasks.write-behind.flush-interval-ms:500}") long flushIntervalMillis,
+                           @Value("${app.tasks.write-behind.max-pending:1000}") int maxPending,
+                           @Value("${app.tasks.write-behind.journal-path:}") String journalPath) {
+        this.taskJdbcDao = taskJdbcDao;
+        this.taskOutbox = taskOutbox;
+        this.taskCache = taskCache;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxPending = maxPending;
+        this.journalPath = journalPath.isBlank() ? null : Path.of(journalPath);
+        if (enabled) {
+            // Replayed before any request can read or overwrite the tasks
+            openJournal();
+            logger.info("Task write-behind enabled with flush interval {} ms, max pending {} and journal {}",
+                    flushIntervalMillis, maxPending, this.journalPath != null ? this.journalPath : "off");
+        }
+    }
+
+    /** The task's previous and new state after an update. */
+    public record Change(Task previous, Task current) {
+    }
+
+    private record Key(long userId, long id) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            executor.scheduleWithFixedDelay(this::flushAll, flushIntervalMillis, flushIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Writes what is still pending before the data source closes
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        flushAll();
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.warn("Error closing write-behind journal: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("tasks.write-behind.pending", pending, Map::size)
+                .description("Tasks with an update not yet written to the database")
+                .register(registry);
+        coalesced = Counter.builder("tasks.write-behind.coalesced")
+                .description("Updates that replaced a pending update of the same task")
+                .register(registry);
+        written = Counter.builder("tasks.write-behind.written")
+                .description("Pending updates written to the database")
+                .register(registry);
+        skipped = Counter.builder("tasks.write-behind.skipped")
+                .description("Pending updates dropped because the task was deleted or already newer")
+                .register(registry);
+        rejected = Counter.builder("tasks.write-behind.rejected")
+                .description("Pending updates dropped because the database would not accept them")
+                .register(registry);
+    }
+
+    // The tenant's pending state of the task, or null when nothing is pending
+    public Task get(long userId, Long id) {
+        return pending.isEmpty() || id == null ? null : pending.get(new Key(userId, id));
+    }
+
+    // The pending state of each task that has one, the task as given otherwise
+    public List<Task> overlay(long userId, List<Task> tasks) {
+        if (pending.isEmpty()) {
+            return tasks;
+        }
+        List<Task> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(overlay(userId, task));
+        }
+        return result;
+    }
+
+    public Task overlay(long userId, Task task) {
+        Task pendingTask = get(userId, task.getId());
+        return pendingTask != null ? pendingTask : task;
+    }
+
+    /**
+     * Applies {@code edit} to a copy of the task's latest state (pending, or {@code stored} when
+     * nothing is pending), journals the result with the next version and makes it the pending state.
+     *
+     * @throws OptimisticLockingFailureException when {@code expectedVersion} is not the latest version
+     */
+    public Change update(Task stored, Long expectedVersion, Consumer<Task> edit) {
+        Key key = new Key(stored.getUserId(), stored.getId());
+        Change change;
+        journalLock.lock();
+        try {
+            Task previous = pending.getOrDefault(key, stored);
+            if (expectedVersion != null && !expectedVersion.equals(previous.getVersion())) {
+                throw new OptimisticLockingFailureException("Task " + key.id() + " has been modified (current version "
+                        + previous.getVersion() + ")");
+            }
+            // Pending states are shared with readers, so every update starts from a copy
+            Task current = previous.copy();
+            edit.accept(current);
+            current.setUpdatedAt(LocalDateTime.now());
+            current.setVersion(previous.getVersion() + 1);
+            append(List.of(current));
+            if (pending.put(key, current) != null && coalesced != null) {
+                coalesced.increment();
+            }
+            change = new Change(previous, current);
+        } finally {
+            journalLock.unlock();
+        }
+        if (pending.size() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            executor.execute(this::flushAll);
+        }
+        return change;
+    }
+
+    // Drops the tenant's pending update of a task that is being deleted
+    public void discard(long userId, Collection<Long> ids) {
+        if (!pending.isEmpty()) {
+            ids.forEach(id -> pending.remove(new Key(userId, id)));
+        }
+    }
+
+    /**
+     * Writes the tenant's pending updates of the given tasks now, ahead of a synchronous write to
+     * them. Joins the caller's transaction when there is one.
+     */
+    public void flush(long userId, Collection<Long> ids) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Key, Task>> entries = new ArrayList<>();
+        for (Long id : ids) {
+            Key key = new Key(userId, id);
+            Task task = pending.get(key);
+            if (task != null) {
+                entries.add(Map.entry(key, task));
+            }
+        }
+        write(entries);
+    }
+
+    // Writes all of the tenant's pending updates now, ahead of a filtered database read
+    public void flush(long userId) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        write(pending.entrySet().stream().filter(entry -> entry.getKey().userId() == userId).toList());
+    }
+
+    // Writes every pending update, then shrinks the journal to what arrived in the meantime
+    void flushAll() {
+        flushRequested.set(false);
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            List<Map.Entry<Key, Task>> entries = List.copyOf(pending.entrySet());
+            try {
+                write(entries);
+            } catch (Exception e) {
+                logger.warn("Error writing {} pending task updates in one batch, writing them one at a time: {}",
+                        entries.size(), e.getMessage());
+                writeEach(entries);
+            }
+            compactJournal();
+        } catch (Exception e) {
+            logger.error("Error writing {} pending task updates, retrying: {}", pending.size(), e.getMessage());
+        }
+    }
+
+    // Sets aside a state the database rejects; a connection or transaction failure leaves all of them pending
+    private void writeEach(List<Map.Entry<Key, Task>> entries) {
+        for (Map.Entry<Key, Task> entry : entries) {
+            try {
+                write(List.of(entry));
+            } catch (DataIntegrityViolationException e) {
+                reject(entry, e);
+            } catch (DataAccessException | TransactionException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                reject(entry, e);
+            }
+        }
+    }
+
+    private void reject(Map.Entry<Key, Task> entry, Exception e) {
+        Task task = entry.getValue();
+        logger.error("Dropping pending update of task {} (user {}, version {}) that cannot be written: {}",
+                task.getId(), task.getUserId(), task.getVersion(), e.toString());
+        if (pending.remove(entry.getKey(), task)) {
+            taskCache.evictAll(entry.getKey().userId(), List.of(entry.getKey().id()));
+            if (rejected != null) {
+                rejected.increment();
+            }
+        }
+    }
+
+    private void write(List<Map.Entry<Key, Task>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Task> tasks = entries.stream().map(Map.Entry::getValue).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] counts = taskJdbcDao.batchWriteBehind(tasks);
+            List<TaskChangeEvent> events = new ArrayList<>(tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                if (counts[i] != 0) {
+                    events.add(TaskChangeEvent.updated(tasks.get(i), null));
+                }
+            }
+            taskOutbox.append(events);
+            // Reads keep seeing the pending state until the rows are committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.forEach(entry -> {
+                        pending.remove(entry.getKey(), entry.getValue());
+                        taskCache.evictAll(entry.getKey().userId(), List.of(entry.getKey().id()));
+                    });
+                    if (written != null) {
+                        written.increment(events.size());
+                        skipped.increment(tasks.size() - events.size());
+                    }
+                }
+            });
+        });
+        logger.debug("Wrote {} pending task updates", tasks.size());
+    }
+
+    private void openJournal() {
+        if (journalPath == null) {
+            return;
+        }
+        try {
+            if (journalPath.getParent() != null) {
+                Files.createDirectories(journalPath.getParent());
+            }
+            if (Files.exists(journalPath)) {
+                replay();
+            }
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open write-behind journal " + journalPath, e);
+        }
+    }
+
+    // Restores the last journaled state of each task; the first flush writes whatever is still missing
+    private void replay() throws IOException {
+        int lines = 0;
+        for (String line : Files.readAllLines(journalPath)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Task task = objectMapper.readValue(line, Task.class);
+                pending.put(new Key(task.getUserId(), task.getId()), task);
+                lines++;
+            } catch (IOException e) {
+                // Only the last line can be torn, by a crash during its append
+                logger.warn("Skipping unreadable write-behind journal line: {}", e.getMessage());
+            }
+        }
+        if (lines > 0) {
+            logger.info("Replayed {} journaled updates of {} tasks from {}", lines, pending.size(), journalPath);
+        }
+    }
+
+    private void append(List<Task> tasks) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(lines(tasks));
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to write-behind journal", e);
+        }
+    }
+
+    private void compactJournal() throws IOException {
+        if (journal == null) {
+            return;
+        }
+        journalLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                journal.truncate(0);
+                journal.force(false);
+                return;
+            }
+            Path next = journalPath.resolveSibling(journalPath.getFileName() + ".next");
+            try (FileChannel channel = FileChannel.open(next, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(lines(List.copyOf(pending.values())));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            journal.close();
+            Files.move(next, journalPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journal = FileChannel.open(journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    private byte[] lines(List<Task> tasks) throws IOException {
+        ByteArrayOutputStream lines = new ByteArrayOutputStream();
+        for (Task task : tasks) {
+            lines.write(objectMapper.writeValueAsBytes(task));
+            lines.write('\n');
+        }
+        return lines.toByteArray();
+    }
+}
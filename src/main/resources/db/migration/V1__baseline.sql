@@ -0,0 +1,26 @@
+-- Schema as previously created by Hibernate's ddl-auto=update, before optimistic locking,
+-- tenant indexes and the outbox. Databases that already have it are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and skip this script; later scripts add the rest.
+-- Written for MySQL; it also runs on H2 in MySQL mode for the benchmarks.
+
+CREATE TABLE tasks (
+    id                  BIGINT        NOT NULL AUTO_INCREMENT,
+    title               VARCHAR(200)  NOT NULL,
+    description         VARCHAR(1000),
+    status              VARCHAR(20)   NOT NULL,
+    priority            INT           NOT NULL,
+    deadline            DATETIME(6),
+    created_at          DATETIME(6)   NOT NULL,
+    updated_at          DATETIME(6)   NOT NULL,
+    user_id             BIGINT        NOT NULL,
+    assigned_to         VARCHAR(255),
+    estimated_hours     DOUBLE,
+    actual_hours        DOUBLE,
+    attachment_url      VARCHAR(255),
+    attachment_filename VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_task_status ON tasks (status);
+CREATE INDEX idx_task_created_at ON tasks (created_at);
+CREATE INDEX idx_task_deadline ON tasks (deadline);
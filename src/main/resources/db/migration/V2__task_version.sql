@@ -0,0 +1,2 @@
+-- Optimistic locking: every update checks and increments the version
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Every query is scoped to one tenant, so each access path leads with user_id
+CREATE INDEX idx_task_user_id ON tasks (user_id, id);
+CREATE INDEX idx_task_user_status ON tasks (user_id, status);
+CREATE INDEX idx_task_user_created_at ON tasks (user_id, created_at);
+CREATE INDEX idx_task_user_deadline ON tasks (user_id, deadline);
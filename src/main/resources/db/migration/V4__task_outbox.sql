@@ -0,0 +1,11 @@
+-- Change events written in the same transaction as the task and delivered by OutboxDispatcher
+CREATE TABLE task_outbox (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    task_id    BIGINT       NOT NULL,
+    event_type VARCHAR(20)  NOT NULL,
+    payload    LONGTEXT     NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    attempts   INT          NOT NULL DEFAULT 0,
+    last_error VARCHAR(500),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
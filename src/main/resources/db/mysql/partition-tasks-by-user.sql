@@ -0,0 +1,14 @@
+-- Optional: hash-partition the tasks table by tenant so every tenant-scoped query reads a
+-- single partition. Run it manually against MySQL during a maintenance window; the Flyway
+-- migrations in db/migration do not touch the partitioning.
+--
+-- MySQL requires the partitioning column in every unique key, so the primary key becomes
+-- (id, user_id); ids stay unique through AUTO_INCREMENT. InnoDB does not support FULLTEXT
+-- indexes on partitioned tables, so the search index is dropped and q= searches fall back to
+-- LIKE; the V5 migration in db/vendor/mysql leaves partitioned tables alone.
+
+ALTER TABLE tasks DROP INDEX ft_task_title_description;
+
+ALTER TABLE tasks DROP PRIMARY KEY, ADD PRIMARY KEY (id, user_id);
+
+ALTER TABLE tasks PARTITION BY KEY (user_id) PARTITIONS 16;
@@ -21,8 +21,9 @@ document.addEventListener("DOMContentLoaded", function () {
   window.tasks = tasks;
   window.filteredTasks = filteredTasks;
 
-  // Load tasks on page load
+  // Load tasks on page load, then follow changes pushed by the server
   loadTasks();
+  subscribeToTaskEvents();
 
   // Event Listeners
   document
@@ -50,6 +51,37 @@ document.addEventListener("DOMContentLoaded", function () {
     }
   }
 
+  // The browser reconnects on its own and resumes from the last event it received
+  function subscribeToTaskEvents() {
+    if (!window.EventSource) return;
+    const source = new EventSource("/api/tasks/events");
+    const apply = (change) => {
+      if (change.type === "DELETED") {
+        tasks = tasks.filter((t) => t.id !== change.taskId);
+      } else if (change.task) {
+        const exists = tasks.some((t) => t.id === change.taskId);
+        tasks = exists
+          ? tasks.map((t) => (t.id === change.taskId ? change.task : t))
+          : [...tasks, change.task];
+      } else {
+        tasks = tasks.map((t) =>
+          t.id === change.taskId ? { ...t, ...change.changes } : t
+        );
+      }
+      filteredTasks = [...tasks];
+      updateUI();
+    };
+    ["created", "updated", "deleted"].forEach((name) =>
+      source.addEventListener(name, (e) => apply(JSON.parse(e.data)))
+    );
+    // Deadline crossings change only how a task is rendered
+    ["due_soon", "overdue"].forEach((name) =>
+      source.addEventListener(name, () => updateUI())
+    );
+    // Sent when the server can no longer replay what was missed
+    source.addEventListener("reset", () => loadTasks());
+  }
+
   function displayTasks(tasks) {
     taskList.innerHTML = "";
 
@@ -290,7 +322,8 @@ document.addEventListener("DOMContentLoaded", function () {
       };
 
       const newTask = await createTask(taskData);
-      tasks.push(newTask);
+      // The created event may have added it already
+      tasks = [...tasks.filter((t) => t.id !== newTask.id), newTask];
       filteredTasks = [...tasks];
 
       // Reset form and close modal
@@ -404,21 +437,7 @@ document.addEventListener("DOMContentLoaded", function () {
     try {
       const task = tasks.find((t) => t.id === taskId);
       if (!task) return;
-      // Ensure all required fields are present
-      const payload = {
-        id: task.id,
-        title: task.title,
-        description: task.description,
-        status: newStatus,
-        priority: task.priority || 3,
-        deadline: task.deadline || null,
-        assignedTo: task.assignedTo || null,
-        estimatedHours: task.estimatedHours || null,
-        actualHours: task.actualHours || null,
-        createdAt: task.createdAt,
-        updatedAt: task.updatedAt,
-      };
-      const updatedTask = await updateTask(taskId, payload);
+      const updatedTask = await patchTask(taskId, { status: newStatus });
       tasks = tasks.map((t) => (t.id === taskId ? updatedTask : t));
       filteredTasks = [...tasks];
       updateUI();
@@ -439,21 +458,7 @@ document.addEventListener("DOMContentLoaded", function () {
     try {
       const task = tasks.find((t) => t.id === taskId);
       if (!task) return;
-      // Ensure all required fields are present
-      const payload = {
-        id: task.id,
-        title: field === "title" ? value : task.title,
-        description: field === "description" ? value : task.description,
-        status: task.status || "TODO",
-        priority: task.priority || 3,
-        deadline: field === "deadline" ? value : task.deadline || null,
-        assignedTo: task.assignedTo || null,
-        estimatedHours: task.estimatedHours || null,
-        actualHours: task.actualHours || null,
-        createdAt: task.createdAt,
-        updatedAt: task.updatedAt,
-      };
-      const updatedTask = await updateTask(taskId, payload);
+      const updatedTask = await patchTask(taskId, { [field]: value });
       tasks = tasks.map((t) => (t.id === taskId ? updatedTask : t));
       filteredTasks = [...tasks];
       updateUI();
@@ -569,6 +574,31 @@ document.addEventListener("DOMContentLoaded", function () {
     }
   }
 
+  // Sends only the changed fields; the server writes just those columns
+  async function patchTask(id, changes) {
+    try {
+      const response = await fetch(`/api/tasks/${id}`, {
+        method: "PATCH",
+        headers: {
+          "Content-Type": "application/merge-patch+json",
+          Prefer: "return=representation",
+        },
+        body: JSON.stringify(changes),
+      });
+
+      if (!response.ok) {
+        const errorData = await response.json();
+        throw new Error(errorData.message || "Failed to update task");
+      }
+
+      const updatedTask = await response.json();
+      return updatedTask;
+    } catch (error) {
+      console.error("Error in patchTask:", error);
+      throw error;
+    }
+  }
+
   async function deleteTask(id) {
     try {
       const response = await fetch(`/api/tasks/${id}`, {